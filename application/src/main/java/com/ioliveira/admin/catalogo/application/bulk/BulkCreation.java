@@ -0,0 +1,66 @@
+package com.ioliveira.admin.catalogo.application.bulk;
+
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collects the items of a bulk creation as they are validated, then persists the valid ones
+ * in chunks of at most {@code chunkSize}, one gateway call (and transaction) per chunk. A
+ * chunk that fails marks all of its items as failed; the following chunks still run.
+ * Requests larger than {@code maxItems} are rejected before anything is validated.
+ */
+public class BulkCreation<T> {
+
+    private static final System.Logger LOGGER = System.getLogger(BulkCreation.class.getName());
+
+    private final BulkItemOutput[] outputs;
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<T> valid = new ArrayList<>();
+
+    public BulkCreation(final int size, final int maxItems) {
+        if (size > maxItems) {
+            throw DomainException.with(new Error("A bulk request accepts at most %d items".formatted(maxItems)));
+        }
+        this.outputs = new BulkItemOutput[size];
+    }
+
+    public void invalid(final int index, final Notification notification) {
+        this.outputs[index] = BulkItemOutput.invalid(index, notification);
+    }
+
+    public void valid(final int index, final T aggregate) {
+        this.indexes.add(index);
+        this.valid.add(aggregate);
+    }
+
+    public List<BulkItemOutput> persist(
+            final int chunkSize,
+            final UnaryOperator<List<T>> createAll,
+            final Function<T, String> idOf
+    ) {
+        for (int from = 0; from < this.valid.size(); from += chunkSize) {
+            final int to = Math.min(from + chunkSize, this.valid.size());
+            try {
+                final List<T> created = createAll.apply(List.copyOf(this.valid.subList(from, to)));
+                for (int i = 0; i < created.size(); i++) {
+                    final int index = this.indexes.get(from + i);
+                    this.outputs[index] = BulkItemOutput.created(index, idOf.apply(created.get(i)));
+                }
+            } catch (final RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Bulk chunk of %d items failed".formatted(to - from), e);
+                for (int i = from; i < to; i++) {
+                    final int index = this.indexes.get(i);
+                    this.outputs[index] = BulkItemOutput.failed(index, e);
+                }
+            }
+        }
+        return Arrays.asList(this.outputs);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ioliveira.admin.catalogo.application.bulk;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a bulk get: the aggregates found, in the order their ids were requested, and the
+ * requested ids that were not found. Each id appears once in either list.
+ */
+public record BulkGetOutput<T>(
+        List<T> items,
+        List<String> missing
+) {
+
+    /**
+     * Ids are UUIDs, so a found aggregate answers its id in any case.
+     */
+    public static <A, T> BulkGetOutput<T> of(
+            final List<String> ids,
+            final List<A> found,
+            final Function<A, String> idOf,
+            final Function<A, T> mapper
+    ) {
+        final Set<String> foundIds = found.stream()
+                .map(it -> key(idOf.apply(it)))
+                .collect(Collectors.toSet());
+
+        final List<String> missing = ids.stream()
+                .filter(id -> !foundIds.contains(key(id)))
+                .distinct()
+                .toList();
+
+        return new BulkGetOutput<>(found.stream().map(mapper).toList(), missing);
+    }
+
+    public <R> BulkGetOutput<R> map(final Function<T, R> mapper) {
+        return new BulkGetOutput<>(this.items.stream().map(mapper).toList(), this.missing);
+    }
+
+    private static String key(final String id) {
+        return id.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ioliveira.admin.catalogo.application.bulk;
+
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk request, at the same {@code index} as in the request.
+ */
+public record BulkItemOutput(
+        int index,
+        Status status,
+        String id,
+        List<Error> errors
+) {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+    public static final String FAILED_MESSAGE = "Item could not be saved, try again";
+
+    public static BulkItemOutput created(final int index, final String id) {
+        return new BulkItemOutput(index, Status.CREATED, id, List.of());
+    }
+
+    public static BulkItemOutput invalid(final int index, final Notification notification) {
+        return new BulkItemOutput(index, Status.INVALID, null, List.copyOf(notification.getErrors()));
+    }
+
+    /**
+     * Domain errors are reported as they are; any other failure (a constraint, a lost
+     * connection) gets a generic error, so driver and SQL details never reach the client.
+     */
+    public static BulkItemOutput failed(final int index, final Throwable t) {
+        final List<Error> errors = t instanceof DomainException e
+                ? List.copyOf(e.getErrors())
+                : List.of(new Error(FAILED_MESSAGE));
+        return new BulkItemOutput(index, Status.FAILED, null, errors);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.castmember.create;
+
+import com.ioliveira.admin.catalogo.application.UseCase;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class BulkCreateCastMemberUseCase extends UseCase<List<CreateCastMemberCommand>, List<BulkItemOutput>> {
+}
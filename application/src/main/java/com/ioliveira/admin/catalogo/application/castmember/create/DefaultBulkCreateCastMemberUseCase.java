@@ -0,0 +1,43 @@
+package com.ioliveira.admin.catalogo.application.castmember.create;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkCreation;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCastMemberUseCase extends BulkCreateCastMemberUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultBulkCreateCastMemberUseCase(final CastMemberGateway castMemberGateway, final int chunkSize, final int maxItems) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCastMemberCommand> commands) {
+        final BulkCreation<CastMember> creation = new BulkCreation<>(commands.size(), this.maxItems);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final CreateCastMemberCommand command = commands.get(i);
+
+            final Notification notification = Notification.create();
+            final CastMember castMember = notification.validate(() -> CastMember.newMember(command.name(), command.type()));
+
+            if (notification.hasErrors()) {
+                creation.invalid(i, notification);
+            } else {
+                creation.valid(i, castMember);
+            }
+        }
+
+        return creation.persist(this.chunkSize, this.castMemberGateway::createAll, it -> it.getId().getValue());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberOutput> consumer) {
+        this.castMemberGateway.forEach(it -> consumer.accept(CastMemberOutput.from(it)));
+    }
+}
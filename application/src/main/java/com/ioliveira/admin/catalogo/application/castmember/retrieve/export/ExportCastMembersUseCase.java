@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.UnitUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCastMembersUseCase extends UnitUseCase<Consumer<CastMemberOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCase;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+
+import java.util.List;
+
+public abstract class BulkGetCastMemberUseCase extends UseCase<List<String>, BulkGetOutput<CastMemberOutput>> {
+}
@@ -0,0 +1,34 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkGetCastMemberUseCase extends BulkGetCastMemberUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int maxIds;
+
+    public DefaultBulkGetCastMemberUseCase(final CastMemberGateway castMemberGateway, final int maxIds) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public BulkGetOutput<CastMemberOutput> execute(final List<String> ids) {
+        if (ids.size() > this.maxIds) {
+            throw DomainException.with(new Error("A bulk get accepts at most %d ids".formatted(this.maxIds)));
+        }
+
+        final List<CastMember> found = this.castMemberGateway
+                .findAllByIds(ids.stream().map(CastMemberID::from).toList());
+
+        return BulkGetOutput.of(ids, found, it -> it.getId().getValue(), CastMemberOutput::from);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ioliveira.admin.catalogo.application.category.create;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkCreation;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCategoryUseCase extends BulkCreateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultBulkCreateCategoryUseCase(final CategoryGateway categoryGateway, final int chunkSize, final int maxItems) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCategoryCommand> commands) {
+        final BulkCreation<Category> creation = new BulkCreation<>(commands.size(), this.maxItems);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final CreateCategoryCommand command = commands.get(i);
+            final Category category = Category.newCategory(command.name(), command.description(), command.isActive());
+
+            final Notification notification = Notification.create();
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                creation.invalid(i, notification);
+            } else {
+                creation.valid(i, category);
+            }
+        }
+
+        return creation.persist(this.chunkSize, this.categoryGateway::createAll, it -> it.getId().getValue());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> consumer) {
+        this.categoryGateway.forEach(it -> consumer.accept(CategoryOutput.from(it)));
+    }
+}
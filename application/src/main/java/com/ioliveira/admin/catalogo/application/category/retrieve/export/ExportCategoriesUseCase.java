@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.UnitUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCase;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+
+import java.util.List;
+
+public abstract class BulkGetCategoryUseCase extends UseCase<List<String>, BulkGetOutput<CategoryOutput>> {
+}
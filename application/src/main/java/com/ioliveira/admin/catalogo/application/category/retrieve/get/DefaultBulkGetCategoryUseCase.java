@@ -0,0 +1,34 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkGetCategoryUseCase extends BulkGetCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxIds;
+
+    public DefaultBulkGetCategoryUseCase(final CategoryGateway categoryGateway, final int maxIds) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public BulkGetOutput<CategoryOutput> execute(final List<String> ids) {
+        if (ids.size() > this.maxIds) {
+            throw DomainException.with(new Error("A bulk get accepts at most %d ids".formatted(this.maxIds)));
+        }
+
+        final List<Category> found = this.categoryGateway
+                .findAllByIds(ids.stream().map(CategoryID::from).toList());
+
+        return BulkGetOutput.of(ids, found, it -> it.getId().getValue(), CategoryOutput::from);
+    }
+}
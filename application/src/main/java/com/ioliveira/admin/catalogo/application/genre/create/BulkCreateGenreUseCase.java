@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.genre.create;
+
+import com.ioliveira.admin.catalogo.application.UseCase;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class BulkCreateGenreUseCase extends UseCase<List<CreateGenreCommand>, List<BulkItemOutput>> {
+}
@@ -0,0 +1,86 @@
+package com.ioliveira.admin.catalogo.application.genre.create;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkCreation;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The categories referenced by all the genres are checked with one de-duplicated lookup
+ * before any genre is validated.
+ */
+public class DefaultBulkCreateGenreUseCase extends BulkCreateGenreUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultBulkCreateGenreUseCase(
+            final GenreGateway genreGateway,
+            final CategoryGateway categoryGateway,
+            final int chunkSize,
+            final int maxItems) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateGenreCommand> commands) {
+        final BulkCreation<Genre> creation = new BulkCreation<>(commands.size(), this.maxItems);
+        final Set<CategoryID> existingCategories = existingCategories(commands);
+
+        for (int i = 0; i < commands.size(); i++) {
+            final CreateGenreCommand command = commands.get(i);
+            final List<CategoryID> categories = command.categories().stream().map(CategoryID::from).toList();
+
+            final Notification notification = Notification.create();
+
+            final String invalidIds = categories.stream()
+                    .filter(id -> !existingCategories.contains(id))
+                    .distinct()
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            if (!invalidIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(invalidIds)));
+            }
+
+            final Genre genre = notification.validate(() -> Genre.newGenre(command.name(), command.isActive()));
+
+            if (notification.hasErrors()) {
+                creation.invalid(i, notification);
+            } else {
+                genre.addCategories(categories);
+                creation.valid(i, genre);
+            }
+        }
+
+        return creation.persist(this.chunkSize, this.genreGateway::createAll, it -> it.getId().getValue());
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> commands) {
+        final List<CategoryID> ids = commands.stream()
+                .flatMap(command -> command.categories().stream())
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+}
@@ -9,9 +9,10 @@ import com.ioliveira.admin.catalogo.domain.validation.Error;
 import com.ioliveira.admin.catalogo.domain.validation.ValidationHandler;
 import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
@@ -49,16 +50,15 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
             return handler;
         }
 
-        final List<CategoryID> validIds = categoryGateway.existsByIds(ids);
+        final Set<CategoryID> validIds = new HashSet<>(categoryGateway.existsByIds(ids));
 
-        if (validIds.size() != ids.size()) {
-            final ArrayList<CategoryID> inputIds = new ArrayList<>(ids);
-            inputIds.removeAll(validIds);
-
-            final String invalidIds = inputIds.stream()
-                    .map(CategoryID::getValue)
-                    .collect(Collectors.joining(", "));
+        final String invalidIds = ids.stream()
+                .filter(id -> !validIds.contains(id))
+                .distinct()
+                .map(CategoryID::getValue)
+                .collect(Collectors.joining(", "));
 
+        if (!invalidIds.isEmpty()) {
             handler.append(new Error("Some categories could not be found: %s".formatted(invalidIds)));
         }
 
@@ -0,0 +1,21 @@
+package com.ioliveira.admin.catalogo.application.genre.retreieve.export;
+
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GenreOutput;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> consumer) {
+        this.genreGateway.forEach(it -> consumer.accept(GenreOutput.from(it)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.genre.retreieve.export;
+
+import com.ioliveira.admin.catalogo.application.UnitUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GenreOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.admin.catalogo.application.genre.retreieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCase;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+
+import java.util.List;
+
+public abstract class BulkGetGenreUseCase extends UseCase<List<String>, BulkGetOutput<GenreOutput>> {
+}
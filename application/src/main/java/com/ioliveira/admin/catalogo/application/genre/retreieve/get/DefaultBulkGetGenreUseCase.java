@@ -0,0 +1,34 @@
+package com.ioliveira.admin.catalogo.application.genre.retreieve.get;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkGetGenreUseCase extends BulkGetGenreUseCase {
+
+    private final GenreGateway genreGateway;
+    private final int maxIds;
+
+    public DefaultBulkGetGenreUseCase(final GenreGateway genreGateway, final int maxIds) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public BulkGetOutput<GenreOutput> execute(final List<String> ids) {
+        if (ids.size() > this.maxIds) {
+            throw DomainException.with(new Error("A bulk get accepts at most %d ids".formatted(this.maxIds)));
+        }
+
+        final List<Genre> found = this.genreGateway
+                .findAllByIds(ids.stream().map(GenreID::from).toList());
+
+        return BulkGetOutput.of(ids, found, it -> it.getId().getValue(), GenreOutput::from);
+    }
+}
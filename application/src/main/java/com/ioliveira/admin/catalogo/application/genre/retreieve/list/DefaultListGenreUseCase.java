@@ -17,7 +17,7 @@ public class DefaultListGenreUseCase extends ListGenreUseCase {
     @Override
     public Pagination<GenreListOutput> execute(final SearchQuery query) {
         return genreGateway
-                .findAll(query)
+                .findAllPreviews(query)
                 .map(GenreListOutput::from);
     }
 }
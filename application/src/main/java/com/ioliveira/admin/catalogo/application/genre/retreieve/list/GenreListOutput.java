@@ -1,28 +1,29 @@
 package com.ioliveira.admin.catalogo.application.genre.retreieve.list;
 
-import com.ioliveira.admin.catalogo.domain.category.CategoryID;
 import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
 
 import java.time.Instant;
-import java.util.List;
 
 public record GenreListOutput(
         String id,
         String name,
         boolean isActive,
-        List<String> categories,
         Instant createdAt,
         Instant deletedAt
 ) {
 
     public static GenreListOutput from(final Genre genre) {
+        return from(GenrePreview.from(genre));
+    }
+
+    public static GenreListOutput from(final GenrePreview genre) {
         return new GenreListOutput(
-                genre.getId().getValue(),
-                genre.getName(),
+                genre.id().getValue(),
+                genre.name(),
                 genre.isActive(),
-                genre.getCategories().stream().map(CategoryID::getValue).toList(),
-                genre.getCreatedAt(),
-                genre.getDeletedAt()
+                genre.createdAt(),
+                genre.deletedAt()
         );
     }
 
@@ -0,0 +1,56 @@
+package com.ioliveira.admin.catalogo.application.castmember.create;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateCastMemberUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateCastMemberUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateCastMemberUseCase(castMemberGateway, 500, 1000);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldReturnAStatusPerItem() {
+        final var expectedErrorMessage = "'type' should not be null";
+        final var commands = List.of(
+                CreateCastMemberCommand.with("Vin Diesel", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Quentin Tarantino", null)
+        );
+
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(BulkItemOutput.Status.CREATED, output.get(0).status());
+        assertEquals(BulkItemOutput.Status.INVALID, output.get(1).status());
+        assertEquals(expectedErrorMessage, output.get(1).errors().get(0).message());
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members -> members.size() == 1));
+    }
+}
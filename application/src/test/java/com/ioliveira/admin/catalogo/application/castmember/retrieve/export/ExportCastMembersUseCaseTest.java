@@ -0,0 +1,52 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportCastMembersUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenStoredCastMembers_whenCallsExport_shouldHandEachOneToTheConsumerInOrder() {
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var quentin = CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR);
+
+        doAnswer(invocation -> {
+            final Consumer<CastMember> consumer = invocation.getArgument(0);
+            consumer.accept(vin);
+            consumer.accept(quentin);
+            return null;
+        }).when(castMemberGateway).forEach(any());
+
+        final var actual = new ArrayList<CastMemberOutput>();
+        useCase.execute(actual::add);
+
+        assertEquals(2, actual.size());
+        assertEquals(vin.getId().getValue(), actual.get(0).id());
+        assertEquals(quentin.getId().getValue(), actual.get(1).id());
+    }
+}
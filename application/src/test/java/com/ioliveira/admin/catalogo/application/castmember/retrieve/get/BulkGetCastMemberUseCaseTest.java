@@ -0,0 +1,51 @@
+package com.ioliveira.admin.catalogo.application.castmember.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkGetCastMemberUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkGetCastMemberUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkGetCastMemberUseCase(castMemberGateway, 1000);
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsBulkGet_shouldReturnTheFoundInOrderAndTheMissing() {
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var quentin = CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR);
+        final var expectedMissing = "123";
+
+        when(castMemberGateway.findAllByIds(any())).thenReturn(List.of(quentin, vin));
+
+        final var output = useCase.execute(List.of(quentin.getId().getValue(), expectedMissing, vin.getId().getValue()));
+
+        assertEquals(List.of("Quentin Tarantino", "Vin Diesel"), output.items().stream().map(CastMemberOutput::name).toList());
+        assertEquals(List.of(expectedMissing), output.missing());
+
+        verify(castMemberGateway, times(1)).findAllByIds(any());
+    }
+}
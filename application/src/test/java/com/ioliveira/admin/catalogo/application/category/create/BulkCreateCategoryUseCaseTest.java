@@ -0,0 +1,109 @@
+package com.ioliveira.admin.catalogo.application.category.create;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateCategoryUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateCategoryUseCase(categoryGateway, 500, 1000);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCreateTheValidOnesInOneCall() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(3, output.size());
+        assertEquals(BulkItemOutput.Status.CREATED, output.get(0).status());
+        assertEquals(BulkItemOutput.Status.INVALID, output.get(1).status());
+        assertNull(output.get(1).id());
+        assertEquals(expectedErrorMessage, output.get(1).errors().get(0).message());
+        assertEquals(BulkItemOutput.Status.CREATED, output.get(2).status());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && Objects.equals("Filmes", categories.get(0).getName())
+                        && Objects.equals("Séries", categories.get(1).getName())
+                        && !categories.get(1).isActive()
+                        && Objects.equals(output.get(2).id(), categories.get(1).getId().getValue())));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsBulkCreate_shouldNotCallTheGateway() {
+        final var commands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(BulkItemOutput.Status.INVALID, output.get(0).status());
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenMoreCommandsThanTheLimit_whenCallsBulkCreate_shouldThrowDomainException() {
+        final var expectedErrorMessage = "A bulk request accepts at most 1 items";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        final var exception = assertThrows(
+                DomainException.class,
+                () -> new DefaultBulkCreateCategoryUseCase(categoryGateway, 500, 1).execute(commands)
+        );
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAChunkRejectedByTheDomain_whenCallsBulkCreate_shouldReportItsErrors() {
+        final var expectedErrorMessage = "'name' already exists";
+        final var commands = List.of(CreateCategoryCommand.with("Filmes", null, true));
+
+        when(categoryGateway.createAll(any())).thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(BulkItemOutput.Status.FAILED, output.get(0).status());
+        assertEquals(expectedErrorMessage, output.get(0).errors().get(0).message());
+    }
+}
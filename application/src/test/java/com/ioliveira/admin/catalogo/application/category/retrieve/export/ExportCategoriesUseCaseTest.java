@@ -0,0 +1,51 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsExport_shouldHandEachOneToTheConsumerInOrder() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        doAnswer(invocation -> {
+            final Consumer<Category> consumer = invocation.getArgument(0);
+            consumer.accept(movies);
+            consumer.accept(series);
+            return null;
+        }).when(categoryGateway).forEach(any());
+
+        final var actual = new ArrayList<CategoryOutput>();
+        useCase.execute(actual::add);
+
+        assertEquals(2, actual.size());
+        assertEquals(movies.getId().getValue(), actual.get(0).id().getValue());
+        assertEquals(series.getId().getValue(), actual.get(1).id().getValue());
+    }
+}
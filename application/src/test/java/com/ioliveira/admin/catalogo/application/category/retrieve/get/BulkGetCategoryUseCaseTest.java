@@ -0,0 +1,73 @@
+package com.ioliveira.admin.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkGetCategoryUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkGetCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkGetCategoryUseCase(categoryGateway, 1000);
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsBulkGet_shouldReturnTheFoundInOrderAndTheMissing() {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var expectedMissing = "123";
+        final var ids = List.of(
+                series.getId().getValue(),
+                expectedMissing,
+                movies.getId().getValue().toUpperCase(),
+                expectedMissing
+        );
+
+        when(categoryGateway.findAllByIds(any())).thenReturn(List.of(series, movies));
+
+        final var output = useCase.execute(ids);
+
+        assertEquals(List.of(series.getId(), movies.getId()), output.items().stream().map(CategoryOutput::id).toList());
+        assertEquals(List.of(expectedMissing), output.missing());
+
+        verify(categoryGateway, times(1)).findAllByIds(ids.stream().map(CategoryID::from).toList());
+    }
+
+    @Test
+    public void givenMoreIdsThanTheLimit_whenCallsBulkGet_shouldThrowDomainException() {
+        final var expectedErrorMessage = "A bulk get accepts at most 1 ids";
+        final var ids = List.of("123", "456");
+
+        final var exception = assertThrows(
+                DomainException.class,
+                () -> new DefaultBulkGetCategoryUseCase(categoryGateway, 1).execute(ids)
+        );
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).findAllByIds(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.ioliveira.admin.catalogo.application.genre.create;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateGenreUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateGenreUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(genreGateway, categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateGenreUseCase(genreGateway, categoryGateway, 2, 1000);
+    }
+
+    @Test
+    public void givenGenresSharingCategories_whenCallsBulkCreate_shouldLookUpEachCategoryOnce() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of(filmes.getValue(), series.getValue())),
+                CreateGenreCommand.with("Terror", true, List.of(filmes.getValue())),
+                CreateGenreCommand.with("Drama", true, List.of(series.getValue(), filmes.getValue()))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(3, output.size());
+        output.forEach(item -> {
+            assertEquals(BulkItemOutput.Status.CREATED, item.status());
+            assertNotNull(item.id());
+        });
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> ids.equals(List.of(filmes, series))));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 1));
+    }
+
+    @Test
+    public void givenInvalidGenres_whenCallsBulkCreate_shouldReportThemAndCreateTheOthers() {
+        final var filmes = CategoryID.from("123");
+        final var expectedCategoryError = "Some categories could not be found: 789";
+        final var expectedNameError = "'name' should not be null";
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of(filmes.getValue(), "789")),
+                CreateGenreCommand.with(null, true, List.of()),
+                CreateGenreCommand.with("Terror", true, List.of(filmes.getValue()))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(BulkItemOutput.Status.INVALID, output.get(0).status());
+        assertEquals(expectedCategoryError, output.get(0).errors().get(0).message());
+        assertEquals(BulkItemOutput.Status.INVALID, output.get(1).status());
+        assertEquals(expectedNameError, output.get(1).errors().get(0).message());
+        assertEquals(BulkItemOutput.Status.CREATED, output.get(2).status());
+        assertEquals(2, output.get(2).index());
+
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 1 && genres.get(0).getCategories().equals(List.of(filmes))));
+    }
+
+    @Test
+    public void givenAChunkThatFailsToPersist_whenCallsBulkCreate_shouldFailOnlyItsItemsWithoutTheCause() {
+        final var expectedErrorMessage = BulkItemOutput.FAILED_MESSAGE;
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with("Terror", true, List.of()),
+                CreateGenreCommand.with("Drama", true, List.of())
+        );
+
+        when(genreGateway.createAll(any()))
+                .thenThrow(new IllegalStateException("Duplicate entry '123' for key 'PRIMARY'"))
+                .thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commands);
+
+        assertEquals(BulkItemOutput.Status.FAILED, output.get(0).status());
+        assertEquals(expectedErrorMessage, output.get(0).errors().get(0).message());
+        assertEquals(BulkItemOutput.Status.FAILED, output.get(1).status());
+        assertEquals(BulkItemOutput.Status.CREATED, output.get(2).status());
+
+        verify(categoryGateway, times(0)).existsByIds(any());
+    }
+
+    @Test
+    public void givenMoreCommandsThanTheLimit_whenCallsBulkCreate_shouldThrowBeforeLookingUpCategories() {
+        final var expectedErrorMessage = "A bulk request accepts at most 2 items";
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of("123")),
+                CreateGenreCommand.with("Terror", true, List.of("123")),
+                CreateGenreCommand.with("Drama", true, List.of("123"))
+        );
+
+        final var exception = assertThrows(
+                DomainException.class,
+                () -> new DefaultBulkCreateGenreUseCase(genreGateway, categoryGateway, 2, 2).execute(commands)
+        );
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).existsByIds(any());
+        verify(genreGateway, times(0)).createAll(any());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ioliveira.admin.catalogo.application.genre.retrieve.export;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.export.DefaultExportGenresUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GenreOutput;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenStoredGenres_whenCallsExport_shouldHandEachOneToTheConsumerInOrder() {
+        final var action = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+
+        doAnswer(invocation -> {
+            final Consumer<Genre> consumer = invocation.getArgument(0);
+            consumer.accept(action);
+            consumer.accept(drama);
+            return null;
+        }).when(genreGateway).forEach(any());
+
+        final var actual = new ArrayList<GenreOutput>();
+        useCase.execute(actual::add);
+
+        assertEquals(2, actual.size());
+        assertEquals(action.getId().getValue(), actual.get(0).id().getValue());
+        assertEquals(drama.getId().getValue(), actual.get(1).id().getValue());
+    }
+}
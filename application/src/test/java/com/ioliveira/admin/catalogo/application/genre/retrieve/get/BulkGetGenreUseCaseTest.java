@@ -0,0 +1,67 @@
+package com.ioliveira.admin.catalogo.application.genre.retrieve.get;
+
+import com.ioliveira.admin.catalogo.application.UseCaseTest;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.DefaultBulkGetGenreUseCase;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkGetGenreUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkGetGenreUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkGetGenreUseCase(genreGateway, 1000);
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsBulkGet_shouldReturnTheFoundWithTheirCategories() {
+        final var expectedCategories = List.of(CategoryID.from("123"), CategoryID.from("456"));
+        final var action = Genre.newGenre("Ação", true).addCategories(expectedCategories);
+        final var expectedMissing = "789";
+
+        when(genreGateway.findAllByIds(any())).thenReturn(List.of(action));
+
+        final var output = useCase.execute(List.of(action.getId().getValue(), expectedMissing));
+
+        assertEquals(1, output.items().size());
+        assertEquals(action.getId(), output.items().get(0).id());
+        assertEquals(List.of("123", "456"), output.items().get(0).categories());
+        assertEquals(List.of(expectedMissing), output.missing());
+
+        verify(genreGateway, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenOnlyMissingIds_whenCallsBulkGet_shouldReturnThemAllAsMissing() {
+        final var expectedMissing = List.of("123", "456");
+
+        when(genreGateway.findAllByIds(any())).thenReturn(List.of());
+
+        final var output = useCase.execute(expectedMissing);
+
+        assertTrue(output.items().isEmpty());
+        assertEquals(expectedMissing, output.missing());
+    }
+}
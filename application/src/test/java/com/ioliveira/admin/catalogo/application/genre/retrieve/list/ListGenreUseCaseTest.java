@@ -5,6 +5,7 @@ import com.ioliveira.admin.catalogo.application.genre.retreieve.list.DefaultList
 import com.ioliveira.admin.catalogo.application.genre.retreieve.list.GenreListOutput;
 import com.ioliveira.admin.catalogo.domain.genre.Genre;
 import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -56,10 +57,10 @@ public class ListGenreUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                genres
+                genres.stream().map(GenrePreview::from).toList()
         );
 
-        when(genreGateway.findAll(any()))
+        when(genreGateway.findAllPreviews(any()))
                 .thenReturn(expectedPagination);
 
         final var query =
@@ -72,7 +73,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         assertEquals(expectedTotal, output.total());
         assertEquals(expectedItems, output.items());
 
-        verify(genreGateway, times(1)).findAll(eq(query));
+        verify(genreGateway, times(1)).findAllPreviews(eq(query));
     }
 
     @Test
@@ -92,10 +93,10 @@ public class ListGenreUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                genres
+                genres.stream().map(GenrePreview::from).toList()
         );
 
-        when(genreGateway.findAll(any()))
+        when(genreGateway.findAllPreviews(any()))
                 .thenReturn(expectedPagination);
 
         final var query =
@@ -108,7 +109,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         assertEquals(expectedTotal, output.total());
         assertEquals(expectedItems, output.items());
 
-        verify(genreGateway, times(1)).findAll(eq(query));
+        verify(genreGateway, times(1)).findAllPreviews(eq(query));
     }
 
     @Test
@@ -121,7 +122,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway error";
 
-        when(genreGateway.findAll(any()))
+        when(genreGateway.findAllPreviews(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery =
@@ -134,6 +135,6 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
         assertEquals(expectedErrorMessage, actualOutput.getMessage());
 
-        verify(genreGateway, times(1)).findAll(eq(aQuery));
+        verify(genreGateway, times(1)).findAllPreviews(eq(aQuery));
     }
 }
@@ -3,18 +3,25 @@ package com.ioliveira.admin.catalogo.domain.castmember;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
     CastMember create(CastMember castMember);
 
+    List<CastMember> createAll(List<CastMember> castMembers);
+
     void deleteById(CastMemberID id);
 
     Optional<CastMember> findById(CastMemberID id);
 
+    List<CastMember> findAllByIds(List<CastMemberID> ids);
+
     CastMember update(CastMember castMember);
 
     Pagination<CastMember> findAll(SearchQuery query);
 
+    void forEach(Consumer<CastMember> consumer);
 }
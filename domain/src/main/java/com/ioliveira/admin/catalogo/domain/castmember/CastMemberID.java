@@ -1,6 +1,7 @@
 package com.ioliveira.admin.catalogo.domain.castmember;
 
 import com.ioliveira.admin.catalogo.domain.Identifier;
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerators;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class CastMemberID extends Identifier {
     }
 
     public static CastMemberID unique() {
-        return from(UUID.randomUUID());
+        return from(IdGenerators.next(CastMemberID.class));
     }
 
     public static CastMemberID from(final String id) {
@@ -5,18 +5,25 @@ import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
 
+    List<Category> findAllByIds(List<CategoryID> ids);
+
     Category update(Category category);
 
     Pagination<Category> findAll(SearchQuery query);
 
     List<CategoryID> existsByIds(List<CategoryID> ids);
+
+    void forEach(Consumer<Category> consumer);
 }
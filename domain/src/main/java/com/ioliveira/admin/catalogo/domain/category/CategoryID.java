@@ -1,6 +1,7 @@
 package com.ioliveira.admin.catalogo.domain.category;
 
 import com.ioliveira.admin.catalogo.domain.Identifier;
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerators;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -15,7 +16,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return from(UUID.randomUUID());
+        return from(IdGenerators.next(CategoryID.class));
     }
 
     public static CategoryID from(final String id) {
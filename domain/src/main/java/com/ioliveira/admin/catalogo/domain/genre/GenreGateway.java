@@ -3,17 +3,27 @@ package com.ioliveira.admin.catalogo.domain.genre;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    List<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreID id);
 
     Optional<Genre> findById(GenreID id);
 
+    List<Genre> findAllByIds(List<GenreID> ids);
+
     Genre update(Genre genre);
 
     Pagination<Genre> findAll(SearchQuery query);
+
+    Pagination<GenrePreview> findAllPreviews(SearchQuery query);
+
+    void forEach(Consumer<Genre> consumer);
 }
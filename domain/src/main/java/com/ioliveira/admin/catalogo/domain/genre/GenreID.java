@@ -1,6 +1,7 @@
 package com.ioliveira.admin.catalogo.domain.genre;
 
 import com.ioliveira.admin.catalogo.domain.Identifier;
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerators;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return from(UUID.randomUUID());
+        return from(IdGenerators.next(GenreID.class));
     }
 
     public static GenreID from(final String id) {
@@ -0,0 +1,25 @@
+package com.ioliveira.admin.catalogo.domain.genre;
+
+import java.time.Instant;
+
+/**
+ * Read-only view of a {@link Genre} used by listings, without its categories.
+ */
+public record GenrePreview(
+        GenreID id,
+        String name,
+        boolean isActive,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static GenrePreview from(final Genre genre) {
+        return new GenrePreview(
+                genre.getId(),
+                genre.getName(),
+                genre.isActive(),
+                genre.getCreatedAt(),
+                genre.getDeletedAt()
+        );
+    }
+}
@@ -7,13 +7,34 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
 ) {
 
+    /**
+     * Value of {@link #total()} when the query was run with {@link TotalMode#NONE}.
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items,
+            final String nextCursor
+    ) {
+        this(currentPage, perPage, total, items, nextCursor, nextCursor != null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> list = this.items().stream().map(mapper).toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), list);
+        return new Pagination<>(currentPage(), perPage(), total(), list, nextCursor(), hasNext());
     }
 
 }
@@ -5,6 +5,39 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode total
 ) {
+
+    public SearchQuery {
+        if (total == null) {
+            total = cursor != null && !cursor.isBlank() ? TotalMode.NONE : TotalMode.EXACT;
+        }
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, null);
+    }
+
+    public boolean hasCursor() {
+        return this.cursor != null && !this.cursor.isBlank();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ioliveira.admin.catalogo.domain.pagination;
+
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+/**
+ * How the total of a {@link Pagination} is computed.
+ * <ul>
+ *     <li>{@link #EXACT}: a {@code COUNT(*)} runs with every page;</li>
+ *     <li>{@link #NONE}: no count runs, only {@link Pagination#hasNext()} is filled;</li>
+ *     <li>{@link #ESTIMATED}: a previously computed count is reused until it expires.</li>
+ * </ul>
+ * When none is given, offset pages count exactly and cursor pages do not count at all, so
+ * paging by cursor never scans the whole result.
+ */
+public enum TotalMode {
+    EXACT, NONE, ESTIMATED;
+
+    /**
+     * @return {@code null} when no mode is given, leaving the default to {@link SearchQuery}
+     */
+    public static TotalMode of(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'total' must be one of exact, none or estimated")
+                ));
+    }
+}
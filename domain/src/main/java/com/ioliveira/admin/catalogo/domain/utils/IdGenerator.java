@@ -0,0 +1,23 @@
+package com.ioliveira.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+
+    /**
+     * Random (version 4) UUIDs.
+     */
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    /**
+     * Time-ordered (version 7) UUIDs, see {@link TimeOrderedIdGenerator}.
+     */
+    static IdGenerator timeOrdered() {
+        return TimeOrderedIdGenerator.INSTANCE;
+    }
+}
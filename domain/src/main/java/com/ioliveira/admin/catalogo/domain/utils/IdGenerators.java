@@ -0,0 +1,29 @@
+package com.ioliveira.admin.catalogo.domain.utils;
+
+import com.ioliveira.admin.catalogo.domain.Identifier;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link IdGenerator} used by each aggregate identifier. Every identifier
+ * uses {@link IdGenerator#timeOrdered()} unless another generator is set for it.
+ */
+public final class IdGenerators {
+
+    private static final IdGenerator DEFAULT = IdGenerator.timeOrdered();
+    private static final Map<Class<? extends Identifier>, IdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private IdGenerators() {
+    }
+
+    public static UUID next(final Class<? extends Identifier> type) {
+        return GENERATORS.getOrDefault(type, DEFAULT).generate();
+    }
+
+    public static void use(final Class<? extends Identifier> type, final IdGenerator generator) {
+        GENERATORS.put(Objects.requireNonNull(type), Objects.requireNonNull(generator));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ioliveira.admin.catalogo.domain.utils;
+
+import com.ioliveira.admin.catalogo.domain.UnitTest;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeOrderedIdGeneratorTest extends UnitTest {
+
+    @Test
+    public void givenAClock_whenCallsGenerate_shouldReturnAVersion7UUIDWithTheTimestamp() {
+        final var expectedTimestamp = 1_700_000_000_000L;
+        final var generator = new TimeOrderedIdGenerator(() -> expectedTimestamp);
+
+        final var actualId = generator.generate();
+
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertEquals(expectedTimestamp, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenAFrozenClock_whenCallsGenerateFromManyThreads_shouldReturnUniqueAndIncreasingIds() throws Exception {
+        final var expectedThreads = 8;
+        final var expectedIdsPerThread = 2_000;
+        final var generator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+
+        final var generated = new ConcurrentLinkedQueue<List<UUID>>();
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(expectedThreads);
+
+        for (int i = 0; i < expectedThreads; i++) {
+            executor.submit(() -> {
+                final var ids = new ArrayList<UUID>(expectedIdsPerThread);
+                start.await();
+                for (int j = 0; j < expectedIdsPerThread; j++) {
+                    ids.add(generator.generate());
+                }
+                generated.add(ids);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        final var all = new HashSet<String>();
+        for (final List<UUID> ids : generated) {
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+            }
+            ids.forEach(id -> all.add(id.toString()));
+        }
+        assertEquals(expectedThreads * expectedIdsPerThread, all.size());
+    }
+
+    @Test
+    public void givenTheDefaultGenerator_whenCallsUnique_shouldReturnSortableIds() {
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(CategoryID.unique().getValue());
+        }
+
+        assertEquals(ids.stream().sorted(Comparator.naturalOrder()).toList(), ids);
+    }
+
+    @Test
+    public void givenARandomGeneratorForAnAggregate_whenCallsUnique_shouldUseIt() {
+        IdGenerators.use(CategoryID.class, IdGenerator.random());
+        try {
+            assertEquals(4, UUID.fromString(CategoryID.unique().getValue()).version());
+        } finally {
+            IdGenerators.use(CategoryID.class, IdGenerator.timeOrdered());
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.ioliveira.admin.catalogo.infrastructure;
 
 import com.ioliveira.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.warmup.ApplicationWarmup;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.AbstractEnvironment;
 
 @SpringBootApplication
 public class Main {
     public static void main(String[] args) {
         System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "sandbox");
-        SpringApplication.run(WebServerConfig.class, args);
+        final ConfigurableApplicationContext context = SpringApplication.run(WebServerConfig.class, args);
+        context.getBeanProvider(ApplicationWarmup.class).ifAvailable(ApplicationWarmup::run);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.ioliveira.admin.catalogo.infrastructure.api;
 
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
@@ -21,6 +23,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Member")
@@ -38,30 +44,64 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> createCastMember(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many cast members at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "207", description = "Each item was created or rejected, see its status"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<List<BulkItemOutput>> createCastMembers(@RequestBody List<CreateCastMemberRequest> input);
+
     @GetMapping(value = "{id}")
     @Operation(summary = "Get a cast member by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Cast member unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable(name = "id") final String id);
+    ResponseEntity<CastMemberResponse> getById(@PathVariable(name = "id") final String id, final WebRequest request);
 
     @GetMapping
     @Operation(summary = "List all cast members paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<CastMemberListResponse> listCastMembers(
+    ResponseEntity<Pagination<CastMemberListResponse>> listCastMembers(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false) final String total,
+            final WebRequest request
     );
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many cast members by id in a single call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found cast members in the requested order, plus the ids not found"),
+            @ApiResponse(responseCode = "422", description = "Too many ids were requested"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<BulkGetOutput<CastMemberResponse>> getByIds(@RequestParam(name = "ids") final List<String> ids);
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all cast members as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every cast member, one JSON object per line, streamed as it is read"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCastMembers();
+
     @PutMapping(value = "{id}")
     @Operation(summary = "Update a cast member by id")
     @ApiResponses(value = {
@@ -1,5 +1,7 @@
 package com.ioliveira.admin.catalogo.infrastructure.api;
 
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.ioliveira.admin.catalogo.infrastructure.category.models.CategoryResponse;
@@ -21,6 +23,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Category")
@@ -38,29 +44,63 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "207", description = "Each item was created or rejected, see its status"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<List<BulkItemOutput>> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false) final String total,
+            final WebRequest request
     );
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many categories by id in a single call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found categories in the requested order, plus the ids not found"),
+            @ApiResponse(responseCode = "422", description = "Too many ids were requested"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<BulkGetOutput<CategoryResponse>> getByIds(@RequestParam(name = "ids") final List<String> ids);
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all categories as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every categorie, one JSON object per line, streamed as it is read"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping(value = "{id}")
     @Operation(summary = "Get a category by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") final String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") final String id, final WebRequest request);
 
     @PutMapping(value = "{id}")
     @Operation(summary = "Update a category by id")
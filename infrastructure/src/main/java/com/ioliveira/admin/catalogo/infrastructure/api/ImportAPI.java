@@ -0,0 +1,67 @@
+package com.ioliveira.admin.catalogo.infrastructure.api;
+
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "imports")
+@Tag(name = "Import")
+public interface ImportAPI {
+
+    String TEXT_CSV_VALUE = "text/csv";
+
+    @PostMapping(
+            value = "categories",
+            consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories from a CSV or newline-delimited JSON file in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import accepted, follow its progress at the Location header"),
+            @ApiResponse(responseCode = "415", description = "The file is neither CSV nor newline-delimited JSON, or its charset is unknown"),
+            @ApiResponse(responseCode = "429", description = "Too many imports running or waiting"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ImportJobStatus> importCategories(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body
+    );
+
+    @PostMapping(
+            value = "cast_members",
+            consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import cast members from a CSV or newline-delimited JSON file in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import accepted, follow its progress at the Location header"),
+            @ApiResponse(responseCode = "415", description = "The file is neither CSV nor newline-delimited JSON, or its charset is unknown"),
+            @ApiResponse(responseCode = "429", description = "Too many imports running or waiting"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ImportJobStatus> importCastMembers(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body
+    );
+
+    @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the progress, throughput and row errors of an import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import status retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Import was not found, or expired"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ImportJobStatus> getById(@PathVariable(name = "id") final String id);
+}
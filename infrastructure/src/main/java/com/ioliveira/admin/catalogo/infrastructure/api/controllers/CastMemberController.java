@@ -1,48 +1,78 @@
 package com.ioliveira.admin.catalogo.infrastructure.api.controllers;
 
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.BulkGetCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.ioliveira.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.infrastructure.api.CastMemberAPI;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.presenters.CastMemberPresenter;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.ResponseCache;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
+import com.ioliveira.admin.catalogo.infrastructure.utils.NdJson;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CAST_MEMBERS;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
+    private final BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
+    private final BulkGetCastMemberUseCase bulkGetCastMemberUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+    private final ResponseCache responseCache;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
+            final BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final BulkGetCastMemberUseCase bulkGetCastMemberUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase) {
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase,
+            final ObjectProvider<ResponseCache> responseCache) {
 
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.bulkCreateCastMemberUseCase = Objects.requireNonNull(bulkCreateCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
+        this.bulkGetCastMemberUseCase = Objects.requireNonNull(bulkGetCastMemberUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
+        this.responseCache = responseCache.getIfAvailable();
     }
 
 
@@ -59,23 +89,56 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
+    public ResponseEntity<List<BulkItemOutput>> createCastMembers(final List<CreateCastMemberRequest> input) {
+        final List<CreateCastMemberCommand> commands = input.stream()
+                .map(item -> CreateCastMemberCommand.with(item.name(), item.type()))
+                .toList();
+
+        return ResponseEntity
+                .status(HttpStatus.MULTI_STATUS)
+                .body(this.bulkCreateCastMemberUseCase.execute(commands));
+    }
+
+    @Override
+    public ResponseEntity<CastMemberResponse> getById(final String id, final WebRequest request) {
+        final CastMemberOutput output = this.getCastMemberByIdUseCase.execute(id);
+
+        final String etag = ETags.of(output.id(), output.updatedAt());
+        final Supplier<CastMemberResponse> body = () -> CastMemberPresenter.present(output);
 
-        return CastMemberPresenter
-                .present(this.getCastMemberByIdUseCase.execute(id));
+        if (this.responseCache != null) {
+            return this.responseCache.serve(request, CAST_MEMBERS, output.id(), etag, body);
+        }
+        return ETags.conditional(request, etag, body);
     }
 
     @Override
-    public Pagination<CastMemberListResponse> listCastMembers(
+    public ResponseEntity<Pagination<CastMemberListResponse>> listCastMembers(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
+            final String direction,
+            final String cursor,
+            final String total,
+            final WebRequest request) {
 
-        return this.listCastMembersUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+        final Pagination<CastMemberListResponse> castMembers = this.listCastMembersUseCase
+                .execute(new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.of(total)))
                 .map(CastMemberPresenter::present);
+
+        return ETags.conditional(request, ETags.of(castMembers), () -> castMembers);
+    }
+
+    @Override
+    public ResponseEntity<BulkGetOutput<CastMemberResponse>> getByIds(final List<String> ids) {
+        return ResponseEntity.ok(this.bulkGetCastMemberUseCase.execute(ids).map(CastMemberPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCastMembers() {
+        return NdJson.stream(sink -> this.exportCastMembersUseCase
+                .execute(output -> sink.accept(CastMemberPresenter.present(output))));
     }
 
     @Override
@@ -1,15 +1,22 @@
 package com.ioliveira.admin.catalogo.infrastructure.api.controllers;
 
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.BulkGetCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.ioliveira.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.ioliveira.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.ioliveira.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.ioliveira.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.admin.catalogo.infrastructure.api.CategoryAPI;
@@ -18,33 +25,56 @@ import com.ioliveira.admin.catalogo.infrastructure.category.models.CategoryRespo
 import com.ioliveira.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.ioliveira.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.ioliveira.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.ResponseCache;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
+import com.ioliveira.admin.catalogo.infrastructure.utils.NdJson;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CATEGORIES;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final BulkGetCategoryUseCase bulkGetCategoryUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ResponseCache responseCache;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
+            final BulkCreateCategoryUseCase bulkCreateCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final BulkGetCategoryUseCase bulkGetCategoryUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase) {
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ObjectProvider<ResponseCache> responseCache) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.bulkCreateCategoryUseCase = Objects.requireNonNull(bulkCreateCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.bulkGetCategoryUseCase = Objects.requireNonNull(bulkGetCategoryUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.responseCache = responseCache.getIfAvailable();
     }
 
     @Override
@@ -68,22 +98,60 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public ResponseEntity<List<BulkItemOutput>> createCategories(final List<CreateCategoryRequest> input) {
+        final List<CreateCategoryCommand> commands = input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList();
+
+        return ResponseEntity
+                .status(HttpStatus.MULTI_STATUS)
+                .body(this.bulkCreateCategoryUseCase.execute(commands));
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
+            final String direction,
+            final String cursor,
+            final String total,
+            final WebRequest request) {
 
-        return this.listCategoriesUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+        final Pagination<CategoryListResponse> categories = this.listCategoriesUseCase
+                .execute(new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.of(total)))
                 .map(CategoryApiPresenter::presenter);
+
+        return ETags.conditional(request, ETags.of(categories), () -> categories);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter
-                .presenter(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<BulkGetOutput<CategoryResponse>> getByIds(final List<String> ids) {
+        return ResponseEntity.ok(this.bulkGetCategoryUseCase.execute(ids).map(CategoryApiPresenter::presenter));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        return NdJson.stream(sink -> this.exportCategoriesUseCase
+                .execute(output -> sink.accept(CategoryApiPresenter.presenter(output))));
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> getById(final String id, final WebRequest request) {
+        final CategoryOutput output = this.getCategoryByIdUseCase.execute(id);
+
+        final String etag = ETags.of(output.id().getValue(), output.updatedAt());
+        final Supplier<CategoryResponse> body = () -> CategoryApiPresenter.presenter(output);
+
+        if (this.responseCache != null) {
+            return this.responseCache.serve(request, CATEGORIES, output.id().getValue(), etag, body);
+        }
+        return ETags.conditional(request, etag, body);
     }
 
     @Override
@@ -1,48 +1,79 @@
 package com.ioliveira.admin.catalogo.infrastructure.api.controllers;
 
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.export.ExportGenresUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.BulkGetGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GenreOutput;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GetGenreByIdUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.list.GenreListOutput;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.list.ListGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.ioliveira.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.infrastructure.api.GenreAPI;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.ResponseCache;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.ioliveira.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
+import com.ioliveira.admin.catalogo.infrastructure.utils.NdJson;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.GENRES;
 
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
+    private final BulkCreateGenreUseCase bulkCreateGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final BulkGetGenreUseCase bulkGetGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final ResponseCache responseCache;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
+            final BulkCreateGenreUseCase bulkCreateGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
+            final BulkGetGenreUseCase bulkGetGenreUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase) {
+            final ListGenreUseCase listGenreUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
+            final ObjectProvider<ResponseCache> responseCache) {
 
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
+        this.bulkCreateGenreUseCase = Objects.requireNonNull(bulkCreateGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.bulkGetGenreUseCase = Objects.requireNonNull(bulkGetGenreUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
+        this.responseCache = responseCache.getIfAvailable();
     }
 
     @Override
@@ -59,19 +90,58 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> listGenres(final String search, final int page, final int perPage, final String sort, final String direction) {
+    public ResponseEntity<List<BulkItemOutput>> createGenres(final List<CreateGenreRequest> input) {
+        final List<CreateGenreCommand> commands = input.stream()
+                .map(item -> CreateGenreCommand.with(item.name(), item.isActive(), item.categories()))
+                .toList();
+
+        return ResponseEntity
+                .status(HttpStatus.MULTI_STATUS)
+                .body(this.bulkCreateGenreUseCase.execute(commands));
+    }
+
+    @Override
+    public ResponseEntity<Pagination<GenreListResponse>> listGenres(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final String total,
+            final WebRequest request) {
+
         final SearchQuery query =
-                new SearchQuery(page, perPage, search, sort, direction);
+                new SearchQuery(page, perPage, search, sort, direction, cursor, TotalMode.of(total));
+
+        // Tagged before presenting, so a 304 maps none of the previews.
+        final Pagination<GenreListOutput> genres = this.listGenreUseCase.execute(query);
 
-        return this.listGenreUseCase
-                .execute(query)
-                .map(GenreApiPresenter::presenter);
+        return ETags.conditional(request, ETags.of(genres), () -> genres.map(GenreApiPresenter::presenter));
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter
-                .presenter(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<BulkGetOutput<GenreResponse>> getByIds(final List<String> ids) {
+        return ResponseEntity.ok(this.bulkGetGenreUseCase.execute(ids).map(GenreApiPresenter::presenter));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportGenres() {
+        return NdJson.stream(sink -> this.exportGenresUseCase
+                .execute(output -> sink.accept(GenreApiPresenter.presenter(output))));
+    }
+
+    @Override
+    public ResponseEntity<GenreResponse> getById(final String id, final WebRequest request) {
+        final GenreOutput output = this.getGenreByIdUseCase.execute(id);
+
+        final String etag = ETags.of(output.id().getValue(), output.updatedAt(), output.categories());
+        final Supplier<GenreResponse> body = () -> GenreApiPresenter.presenter(output);
+
+        if (this.responseCache != null) {
+            return this.responseCache.serve(request, GENRES, output.id().getValue(), etag, body);
+        }
+        return ETags.conditional(request, etag, body);
     }
 
     @Override
@@ -0,0 +1,80 @@
+package com.ioliveira.admin.catalogo.infrastructure.api.controllers;
+
+import com.ioliveira.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
+import com.ioliveira.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.admin.catalogo.infrastructure.api.ImportAPI;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportFormat;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobStatus;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobs;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportRows;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportTarget;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+public class ImportController implements ImportAPI {
+
+    private final ImportJobs importJobs;
+    private final ImportTarget<CreateCategoryCommand> categories;
+    private final ImportTarget<CreateCastMemberCommand> castMembers;
+
+    public ImportController(
+            final ImportJobs importJobs,
+            final BulkCreateCategoryUseCase bulkCreateCategoryUseCase,
+            final BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase) {
+        this.importJobs = Objects.requireNonNull(importJobs);
+        this.categories = new ImportTarget<>("categories", ImportRows::category, bulkCreateCategoryUseCase::execute);
+        this.castMembers = new ImportTarget<>("cast_members", ImportRows::castMember, bulkCreateCastMemberUseCase::execute);
+    }
+
+    @Override
+    public ResponseEntity<ImportJobStatus> importCategories(final String contentType, final InputStream body) {
+        return submit(this.categories, contentType, body);
+    }
+
+    @Override
+    public ResponseEntity<ImportJobStatus> importCastMembers(final String contentType, final InputStream body) {
+        return submit(this.castMembers, contentType, body);
+    }
+
+    @Override
+    public ResponseEntity<ImportJobStatus> getById(final String id) {
+        return this.importJobs.status(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private <C> ResponseEntity<ImportJobStatus> submit(
+            final ImportTarget<C> target,
+            final String contentType,
+            final InputStream body) {
+
+        final MediaType mediaType = MediaType.parseMediaType(contentType);
+        final ImportFormat format = ImportFormat.of(mediaType);
+
+        // A charset this JVM does not know fails the content type parsing, answered with 415.
+        final Charset charset = ImportFormat.charsetOf(mediaType);
+
+        final ImportJobStatus status;
+        try {
+            status = this.importJobs.submit(target, format, charset, body);
+        } catch (final RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/imports/" + status.id()))
+                .body(status);
+    }
+}
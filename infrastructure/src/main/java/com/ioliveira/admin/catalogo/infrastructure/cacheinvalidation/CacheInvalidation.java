@@ -0,0 +1,18 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation;
+
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.persistence.CacheInvalidationJpaEntity;
+
+/**
+ * One row of the invalidation log: the entry {@code key} of the named cache changed, or the
+ * whole cache when {@code key} is null.
+ */
+public record CacheInvalidation(long id, String cacheName, String key) {
+
+    public static CacheInvalidation from(final CacheInvalidationJpaEntity entity) {
+        return new CacheInvalidation(entity.getId(), entity.getCacheName(), entity.getEntryKey());
+    }
+
+    public boolean isWholeCache() {
+        return this.key == null;
+    }
+}
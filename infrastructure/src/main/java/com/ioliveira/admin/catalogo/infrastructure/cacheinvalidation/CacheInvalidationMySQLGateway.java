@@ -0,0 +1,77 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation;
+
+import com.ioliveira.admin.catalogo.domain.Identifier;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.persistence.CacheInvalidationJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.persistence.CacheInvalidationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change log of the aggregate tables, read by every node to evict what other nodes wrote.
+ * The MySQL gateways record a row in the transaction of each write, so an invalidation is
+ * visible exactly when the change it describes is committed. Does nothing unless
+ * {@code cache.gateways.invalidation-log} is enabled.
+ */
+@Component
+public class CacheInvalidationMySQLGateway {
+
+    private final CacheInvalidationRepository repository;
+    private final boolean enabled;
+
+    public CacheInvalidationMySQLGateway(
+            final CacheInvalidationRepository repository,
+            @Value("${cache.gateways.invalidation-log:false}") final boolean enabled) {
+
+        this.repository = Objects.requireNonNull(repository);
+        this.enabled = enabled;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final String cacheName, final Identifier id) {
+        if (this.enabled) {
+            this.repository.save(new CacheInvalidationJpaEntity(cacheName, id.getValue(), Instant.now()));
+        }
+    }
+
+    /**
+     * One row per id, so a bulk write evicts just what it wrote instead of the whole cache
+     * on every node.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEach(final String cacheName, final Collection<? extends Identifier> ids) {
+        if (this.enabled && !ids.isEmpty()) {
+            final Instant now = Instant.now();
+            this.repository.saveAll(ids.stream()
+                    .map(id -> new CacheInvalidationJpaEntity(cacheName, id.getValue(), now))
+                    .toList());
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(final String cacheName) {
+        if (this.enabled) {
+            this.repository.save(new CacheInvalidationJpaEntity(cacheName, null, Instant.now()));
+        }
+    }
+
+    public List<CacheInvalidation> after(final long id) {
+        return this.repository.findFirst500ByIdGreaterThanOrderByIdAsc(id).stream()
+                .map(CacheInvalidation::from)
+                .toList();
+    }
+
+    public long lastId() {
+        return this.repository.lastId();
+    }
+
+    public int deleteOlderThan(final Instant before) {
+        return this.repository.deleteOlderThan(before);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tails the invalidation log and hands every new row to a listener that evicts the local
+ * caches. Each poll reads the ids above a cursor through the primary key.
+ * <p>
+ * Auto-increment ids are assigned at insert but become visible at commit, so a lower id may
+ * show up after a higher one. The cursor therefore stops before a gap, and the rows past it
+ * are read again (evicting twice is harmless) until the gap fills or is older than the
+ * grace period, e.g. left behind by a rollback.
+ */
+public class CacheInvalidationPoller implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    private final CacheInvalidationMySQLGateway gateway;
+    private final Consumer<CacheInvalidation> listener;
+    private final Duration grace;
+    private final Duration retention;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private long cursor;
+    private Instant gapSince;
+    private Instant lastCleanup;
+
+    public CacheInvalidationPoller(
+            final CacheInvalidationMySQLGateway gateway,
+            final Consumer<CacheInvalidation> listener,
+            final Duration grace,
+            final Duration retention,
+            final Clock clock) {
+
+        this.gateway = Objects.requireNonNull(gateway);
+        this.listener = Objects.requireNonNull(listener);
+        this.grace = Objects.requireNonNull(grace);
+        this.retention = Objects.requireNonNull(retention);
+        this.clock = Objects.requireNonNull(clock);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts from the current end of the log: whatever was written before is already
+     * reflected in the database this node's caches will be filled from.
+     */
+    public void start(final Duration interval) {
+        this.cursor = this.gateway.lastId();
+        this.lastCleanup = this.clock.instant();
+        this.executor.scheduleWithFixedDelay(this::pollQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void poll() {
+        final Instant now = this.clock.instant();
+        final List<CacheInvalidation> invalidations = this.gateway.after(this.cursor);
+
+        long next = this.cursor;
+        for (final CacheInvalidation invalidation : invalidations) {
+            if (invalidation.id() != next + 1) {
+                if (this.gapSince == null) {
+                    this.gapSince = now;
+                }
+                if (Duration.between(this.gapSince, now).compareTo(this.grace) < 0) {
+                    break;
+                }
+            }
+            this.gapSince = null;
+            next = invalidation.id();
+        }
+        this.cursor = next;
+
+        invalidations.forEach(this.listener);
+
+        if (Duration.between(this.lastCleanup, now).compareTo(this.retention) >= 0) {
+            this.gateway.deleteOlderThan(now.minus(this.retention));
+            this.lastCleanup = now;
+        }
+    }
+
+    public synchronized long cursor() {
+        return this.cursor;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (final RuntimeException e) {
+            LOG.warn("Could not poll the cache invalidation log", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "cache_invalidation")
+public class CacheInvalidationJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    @Column(name = "entry_key", length = 36)
+    private String entryKey;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public CacheInvalidationJpaEntity() {
+    }
+
+    public CacheInvalidationJpaEntity(final String cacheName, final String entryKey, final Instant createdAt) {
+        this.cacheName = cacheName;
+        this.entryKey = entryKey;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getEntryKey() {
+        return entryKey;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationJpaEntity, Long> {
+
+    /**
+     * Primary key range scan, so a poll with nothing new reads a single index entry.
+     */
+    List<CacheInvalidationJpaEntity> findFirst500ByIdGreaterThanOrderByIdAsc(long id);
+
+    @Query("select coalesce(max(c.id), 0) from CacheInvalidationJpaEntity c")
+    long lastId();
+
+    @Transactional
+    @Modifying
+    @Query("delete from CacheInvalidationJpaEntity c where c.createdAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
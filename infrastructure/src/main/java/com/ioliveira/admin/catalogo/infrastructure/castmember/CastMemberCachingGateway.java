@@ -0,0 +1,161 @@
+package com.ioliveira.admin.catalogo.infrastructure.castmember;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.PageCache;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Caches cast members by id in front of another {@link CastMemberGateway}, evicting on every write.
+ * Ids that are not UUIDs or were recently found missing are answered without a query.
+ * List pages are cached until the next write.
+ */
+public class CastMemberCachingGateway implements CastMemberGateway {
+
+    private static final String ITEMS = "items";
+
+    private final CastMemberGateway delegate;
+    private final Cache<CastMemberID, CastMember> castMembers;
+    private final Cache<CastMemberID, Boolean> missing;
+    private final PageCache pages;
+
+    public CastMemberCachingGateway(
+            final CastMemberGateway delegate,
+            final Cache<CastMemberID, CastMember> castMembers,
+            final Cache<CastMemberID, Boolean> missing,
+            final PageCache pages) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.castMembers = Objects.requireNonNull(castMembers);
+        this.missing = Objects.requireNonNull(missing);
+        this.pages = Objects.requireNonNull(pages);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final CastMember created = this.delegate.create(castMember);
+        this.castMembers.invalidate(key(created.getId()));
+        this.missing.invalidate(key(created.getId()));
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        final List<CastMember> created = this.delegate.createAll(castMembers);
+        final List<CastMemberID> ids = created.stream().map(it -> key(it.getId())).toList();
+        this.castMembers.invalidateAll(ids);
+        this.missing.invalidateAll(ids);
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.delegate.deleteById(id);
+        this.castMembers.invalidate(key(id));
+        this.pages.invalidate();
+        if (UUIDs.isValid(id.getValue())) {
+            this.missing.put(key(id), Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+            return Optional.empty();
+        }
+
+        final CastMember cached = this.castMembers.getIfPresent(key(id));
+        if (cached != null) {
+            return Optional.of(CastMember.clone(cached));
+        }
+
+        final Optional<CastMember> castMember = this.delegate.findById(id);
+        castMember.ifPresentOrElse(
+                it -> this.castMembers.put(key(id), CastMember.clone(it)),
+                () -> this.missing.put(key(id), Boolean.TRUE)
+        );
+        return castMember;
+    }
+
+    /**
+     * Cached cast members and recently missing ids are answered here; only the others reach the
+     * delegate, in a single call.
+     */
+    @Override
+    public List<CastMember> findAllByIds(final List<CastMemberID> ids) {
+        final Map<String, CastMember> found = new HashMap<>(ids.size());
+        final List<CastMemberID> unknown = new ArrayList<>(ids.size());
+
+        for (final CastMemberID id : ids) {
+            if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+                continue;
+            }
+            final CastMember cached = this.castMembers.getIfPresent(key(id));
+            if (cached != null) {
+                found.put(UUIDs.normalize(id.getValue()), CastMember.clone(cached));
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (final CastMember loaded : this.delegate.findAllByIds(unknown)) {
+                this.castMembers.put(key(loaded.getId()), CastMember.clone(loaded));
+                found.put(UUIDs.normalize(loaded.getId().getValue()), loaded);
+            }
+            unknown.stream()
+                    .filter(id -> !found.containsKey(UUIDs.normalize(id.getValue())))
+                    .forEach(id -> this.missing.put(key(id), Boolean.TRUE));
+        }
+
+        return ids.stream()
+                .filter(id -> UUIDs.isValid(id.getValue()))
+                .map(id -> UUIDs.normalize(id.getValue()))
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        final CastMember updated = this.delegate.update(castMember);
+        this.castMembers.invalidate(key(updated.getId()));
+        this.pages.invalidate();
+        return updated;
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery query) {
+        return this.pages
+                .get(ITEMS, query, this.delegate::findAll)
+                .map(CastMember::clone);
+    }
+
+    @Override
+    public void forEach(final Consumer<CastMember> consumer) {
+        this.delegate.forEach(consumer);
+    }
+
+    /**
+     * The database matches ids in any case, so entries are keyed by the lower-case form and
+     * a lookup by an upper-case id is evicted by a write of the same aggregate.
+     */
+    private static CastMemberID key(final CastMemberID id) {
+        return CastMemberID.from(UUIDs.normalize(id.getValue()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ioliveira.admin.catalogo.infrastructure.castmember;
+
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shares one in-flight {@link #findById} or {@link #findAll} among concurrent identical
+ * calls. Every caller gets its own copy of the aggregates; writes pass straight through.
+ */
+public class CastMemberCoalescingGateway implements CastMemberGateway {
+
+    private final CastMemberGateway delegate;
+    private final SingleFlight<CastMemberID, Optional<CastMember>> byId;
+    private final SingleFlight<SearchQuery, Pagination<CastMember>> pages;
+
+    public CastMemberCoalescingGateway(
+            final CastMemberGateway delegate,
+            final SingleFlight<CastMemberID, Optional<CastMember>> byId,
+            final SingleFlight<SearchQuery, Pagination<CastMember>> pages) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.byId = Objects.requireNonNull(byId);
+        this.pages = Objects.requireNonNull(pages);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        return this.delegate.create(castMember);
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        return this.delegate.createAll(castMembers);
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        return this.byId
+                .run(id, () -> this.delegate.findById(id))
+                .map(CastMember::clone);
+    }
+
+    @Override
+    public List<CastMember> findAllByIds(final List<CastMemberID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        return this.delegate.update(castMember);
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery query) {
+        return this.pages
+                .run(query, () -> this.delegate.findAll(query))
+                .map(CastMember::clone);
+    }
+
+    @Override
+    public void forEach(final Consumer<CastMember> consumer) {
+        this.delegate.forEach(consumer);
+    }
+}
@@ -5,80 +5,154 @@ import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidationMySQLGateway;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.ioliveira.admin.catalogo.infrastructure.utils.InClauses;
+import com.ioliveira.admin.catalogo.infrastructure.utils.JpaStreams;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SortableFields;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationPaginator;
 import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CAST_MEMBERS;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
+    private static final String EXPORT = "select c from CastMemberJpaEntity c order by c.id";
+
     private final CastMemberRepository repository;
+    private final CacheInvalidationMySQLGateway invalidations;
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final SpecificationPaginator<CastMemberJpaEntity> paginator;
 
-    public CastMemberMySQLGateway(final CastMemberRepository repository) {
+    public CastMemberMySQLGateway(
+            final CastMemberRepository repository,
+            final CacheInvalidationMySQLGateway invalidations,
+            final EntityManager entityManager,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize) {
         this.repository = Objects.requireNonNull(repository);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.exportFetchSize = exportFetchSize;
+        this.paginator = new SpecificationPaginator<>(
+                entityManager,
+                repository,
+                CastMemberJpaEntity.class,
+                CastMemberJpaEntity::getId,
+                SortableFields.of("name", "createdAt", "type")
+        );
     }
 
     @Override
+    @Transactional
     public CastMember create(final CastMember castMember) {
-        return this.repository
+        final CastMember created = this.repository
                 .save(CastMemberJpaEntity.from(castMember))
                 .toAggregate();
+        this.invalidations.record(CAST_MEMBERS, created.getId());
+        this.paginator.invalidateCounts();
+        return created;
     }
 
+    /**
+     * Persists the chunk in one transaction, the inserts sent as JDBC batches. A single
+     * whole-cache invalidation stands for all the new ids.
+     */
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        final List<CastMember> created = this.repository
+                .saveAll(castMembers.stream().map(CastMemberJpaEntity::from).toList())
+                .stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+        this.invalidations.recordEach(CAST_MEMBERS, created.stream().map(CastMember::getId).toList());
+        this.paginator.invalidateCounts();
+        return created;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberID id) {
         final String idValue = id.getValue();
-        if (this.repository.existsById(idValue)) {
-            this.repository.deleteById(idValue);
+        if (UUIDs.isValid(idValue)) {
+            this.repository.deleteRowById(idValue);
+            this.invalidations.record(CAST_MEMBERS, id);
+            this.paginator.invalidateCounts();
         }
     }
 
     @Override
     public Optional<CastMember> findById(final CastMemberID id) {
+        if (!UUIDs.isValid(id.getValue())) {
+            return Optional.empty();
+        }
         return this.repository
                 .findById(id.getValue())
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
+    public List<CastMember> findAllByIds(final List<CastMemberID> ids) {
+        return InClauses.findAllInOrder(ids, this.repository::findAllById, CastMemberJpaEntity::getId)
+                .stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public CastMember update(final CastMember castMember) {
-        return this.repository
-                .save(CastMemberJpaEntity.from(castMember))
+        final CastMemberJpaEntity entity = CastMemberJpaEntity.from(castMember);
+        entity.markNotNew();
+        final CastMember updated = this.repository
+                .save(entity)
                 .toAggregate();
+        this.invalidations.record(CAST_MEMBERS, updated.getId());
+        this.paginator.invalidateCounts();
+        return updated;
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery query) {
-        final PageRequest page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
         final Specification<CastMemberJpaEntity> specification = Optional.ofNullable(query.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::specification)
                 .orElse(null);
 
-        final Page<CastMemberJpaEntity> pageResult = this.repository.findAll(specification, page);
+        return this.paginator
+                .paginate(specification, query)
+                .map(CastMemberJpaEntity::toAggregate);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+    /**
+     * Streams every stored cast member in id order; see {@link JpaStreams}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<CastMember> consumer) {
+        JpaStreams.forEach(
+                this.entityManager,
+                this.entityManager.createQuery(EXPORT, CastMemberJpaEntity.class),
+                this.exportFetchSize,
+                entity -> consumer.accept(entity.toAggregate())
         );
     }
 
     private Specification<CastMemberJpaEntity> specification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return SpecificationUtils.search(terms, "name");
     }
 }
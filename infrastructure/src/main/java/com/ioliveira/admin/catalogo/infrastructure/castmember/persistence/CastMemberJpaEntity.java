@@ -3,20 +3,35 @@ package com.ioliveira.admin.catalogo.infrastructure.castmember.persistence;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDStringBinaryType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CastMemberJpaEntity.CACHE_REGION)
+public class CastMemberJpaEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "cast-member";
 
     @Id
+    @Type(type = UUIDStringBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -32,6 +47,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public CastMemberJpaEntity() {
     }
 
@@ -69,6 +87,18 @@ public class CastMemberJpaEntity {
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
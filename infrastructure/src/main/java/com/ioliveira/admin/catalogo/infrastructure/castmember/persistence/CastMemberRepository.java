@@ -4,8 +4,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> whereClause, Pageable page);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CastMemberJpaEntity c where c.id = :id")
+    int deleteRowById(@Param("id") String id);
 }
@@ -0,0 +1,201 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.PageCache;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Caches categories by id in front of another {@link CategoryGateway}. Writes go to the
+ * delegate first and then evict the entry. Cached aggregates are copied on the way in
+ * and out, since callers mutate the categories they read. Ids that are not UUIDs or were
+ * recently found missing are answered without a query. List pages are cached until the
+ * next write.
+ * <p>
+ * Deleting a category also clears the genre caches: the database drops the category from
+ * every genre through its foreign key.
+ */
+public class CategoryCachingGateway implements CategoryGateway {
+
+    private static final String ITEMS = "items";
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Category> categories;
+    private final Cache<CategoryID, Boolean> missing;
+    private final PageCache pages;
+    private final Cache<GenreID, Genre> genres;
+    private final PageCache genrePages;
+
+    public CategoryCachingGateway(
+            final CategoryGateway delegate,
+            final Cache<CategoryID, Category> categories,
+            final Cache<CategoryID, Boolean> missing,
+            final PageCache pages,
+            final Cache<GenreID, Genre> genres,
+            final PageCache genrePages) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.categories = Objects.requireNonNull(categories);
+        this.missing = Objects.requireNonNull(missing);
+        this.pages = Objects.requireNonNull(pages);
+        this.genres = Objects.requireNonNull(genres);
+        this.genrePages = Objects.requireNonNull(genrePages);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final Category created = this.delegate.create(category);
+        this.categories.invalidate(key(created.getId()));
+        this.missing.invalidate(key(created.getId()));
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final List<Category> created = this.delegate.createAll(categories);
+        final List<CategoryID> ids = created.stream().map(it -> key(it.getId())).toList();
+        this.categories.invalidateAll(ids);
+        this.missing.invalidateAll(ids);
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        this.categories.invalidate(key(id));
+        this.pages.invalidate();
+        if (UUIDs.isValid(id.getValue())) {
+            this.missing.put(key(id), Boolean.TRUE);
+        }
+        this.genres.invalidateAll();
+        this.genrePages.invalidate();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+            return Optional.empty();
+        }
+
+        final Category cached = this.categories.getIfPresent(key(id));
+        if (cached != null) {
+            return Optional.of(cached.clone());
+        }
+
+        final Optional<Category> category = this.delegate.findById(id);
+        category.ifPresentOrElse(
+                it -> this.categories.put(key(id), it.clone()),
+                () -> this.missing.put(key(id), Boolean.TRUE)
+        );
+        return category;
+    }
+
+    /**
+     * Cached categories and recently missing ids are answered here; only the others reach the
+     * delegate, in a single call.
+     */
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> ids) {
+        final Map<String, Category> found = new HashMap<>(ids.size());
+        final List<CategoryID> unknown = new ArrayList<>(ids.size());
+
+        for (final CategoryID id : ids) {
+            if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+                continue;
+            }
+            final Category cached = this.categories.getIfPresent(key(id));
+            if (cached != null) {
+                found.put(UUIDs.normalize(id.getValue()), cached.clone());
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (final Category loaded : this.delegate.findAllByIds(unknown)) {
+                this.categories.put(key(loaded.getId()), loaded.clone());
+                found.put(UUIDs.normalize(loaded.getId().getValue()), loaded);
+            }
+            unknown.stream()
+                    .filter(id -> !found.containsKey(UUIDs.normalize(id.getValue())))
+                    .forEach(id -> this.missing.put(key(id), Boolean.TRUE));
+        }
+
+        return ids.stream()
+                .filter(id -> UUIDs.isValid(id.getValue()))
+                .map(id -> UUIDs.normalize(id.getValue()))
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final Category updated = this.delegate.update(category);
+        this.categories.invalidate(key(updated.getId()));
+        this.pages.invalidate();
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.pages
+                .get(ITEMS, query, this.delegate::findAll)
+                .map(Category::clone);
+    }
+
+    /**
+     * Ids of cached categories are known to exist and recently missing ones are known not
+     * to; only the others reach the delegate.
+     */
+    @Override
+    public List<CategoryID> existsByIds(final List<CategoryID> ids) {
+        final Set<CategoryID> existing = new LinkedHashSet<>(ids.size());
+        final List<CategoryID> unknown = new ArrayList<>(ids.size());
+
+        for (final CategoryID id : ids) {
+            if (this.categories.getIfPresent(key(id)) != null) {
+                existing.add(id);
+            } else if (this.missing.getIfPresent(key(id)) == null) {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            existing.addAll(this.delegate.existsByIds(unknown));
+        }
+        return new ArrayList<>(existing);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> consumer) {
+        this.delegate.forEach(consumer);
+    }
+
+    /**
+     * The database matches ids in any case, so entries are keyed by the lower-case form and
+     * a lookup by an upper-case id is evicted by a write of the same aggregate.
+     */
+    private static CategoryID key(final CategoryID id) {
+        return CategoryID.from(UUIDs.normalize(id.getValue()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shares one in-flight {@link #findById} or {@link #findAll} among concurrent identical
+ * calls. Every caller gets its own copy of the aggregates; writes pass straight through.
+ */
+public class CategoryCoalescingGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final SingleFlight<CategoryID, Optional<Category>> byId;
+    private final SingleFlight<SearchQuery, Pagination<Category>> pages;
+
+    public CategoryCoalescingGateway(
+            final CategoryGateway delegate,
+            final SingleFlight<CategoryID, Optional<Category>> byId,
+            final SingleFlight<SearchQuery, Pagination<Category>> pages) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.byId = Objects.requireNonNull(byId);
+        this.pages = Objects.requireNonNull(pages);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.byId
+                .run(id, () -> this.delegate.findById(id))
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.pages
+                .run(query, () -> this.delegate.findAll(query))
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final List<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> consumer) {
+        this.delegate.forEach(consumer);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Exact in-memory set of the category ids known to exist, stored as {@link UUID}s rather
+ * than strings to keep it compact. It only ever vouches for presence: an id it does not
+ * hold may still exist (created by another instance, or not loaded yet) and has to be
+ * checked against the database.
+ * <p>
+ * Nothing is vouched for until the first {@link #load} finishes. Ids removed while a load
+ * is running are removed again at the end, so a snapshot read before the delete cannot
+ * bring them back.
+ */
+public class CategoryIdIndex {
+
+    private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> removedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    public boolean contains(final CategoryID id) {
+        return this.ready && UUIDs.isValid(id.getValue()) && this.ids.contains(UUID.fromString(id.getValue()));
+    }
+
+    public void add(final CategoryID id) {
+        if (UUIDs.isValid(id.getValue())) {
+            this.ids.add(UUID.fromString(id.getValue()));
+        }
+    }
+
+    public void remove(final CategoryID id) {
+        if (UUIDs.isValid(id.getValue())) {
+            final UUID uuid = UUID.fromString(id.getValue());
+            if (this.loading) {
+                this.removedWhileLoading.add(uuid);
+            }
+            this.ids.remove(uuid);
+        }
+    }
+
+    /**
+     * Fills the index from a full scan of the stored ids, given as a callback that feeds
+     * each id to the consumer it receives.
+     */
+    public synchronized void load(final Consumer<Consumer<CategoryID>> scan) {
+        this.loading = true;
+        try {
+            scan.accept(this::add);
+            this.ids.removeAll(this.removedWhileLoading);
+            this.ready = true;
+        } finally {
+            this.removedWhileLoading.clear();
+            this.loading = false;
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public int size() {
+        return this.ids.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Answers {@link #existsByIds} from a {@link CategoryIdIndex} in front of another
+ * {@link CategoryGateway}, so validating the categories of a genre usually needs no query.
+ * Only ids the index cannot vouch for reach the delegate.
+ * <p>
+ * Only creates and the startup load add ids. An id the delegate confirms is not added,
+ * since it may belong to a delete that has not committed yet, and the index would then
+ * vouch for a row that is gone.
+ */
+public class CategoryIndexedGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategoryIdIndex index;
+
+    public CategoryIndexedGateway(final CategoryGateway delegate, final CategoryIdIndex index) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.index = Objects.requireNonNull(index);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final Category created = this.delegate.create(category);
+        this.index.add(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final List<Category> created = this.delegate.createAll(categories);
+        created.forEach(category -> this.index.add(category.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.index.remove(id);
+        this.delegate.deleteById(id);
+        // A load that read the row before the delete committed may have added it back.
+        this.index.remove(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final List<CategoryID> ids) {
+        final Set<CategoryID> existing = new LinkedHashSet<>(ids.size());
+        final Set<CategoryID> unknown = new LinkedHashSet<>();
+
+        for (final CategoryID id : ids) {
+            if (this.index.contains(id)) {
+                existing.add(id);
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            existing.addAll(this.delegate.existsByIds(new ArrayList<>(unknown)));
+        }
+        return new ArrayList<>(existing);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> consumer) {
+        this.delegate.forEach(consumer);
+    }
+}
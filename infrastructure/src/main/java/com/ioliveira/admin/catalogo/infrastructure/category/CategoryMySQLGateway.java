@@ -5,105 +5,192 @@ import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.admin.catalogo.domain.category.CategoryID;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidationMySQLGateway;
 import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.ioliveira.admin.catalogo.infrastructure.utils.InClauses;
+import com.ioliveira.admin.catalogo.infrastructure.utils.JpaStreams;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SortableFields;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationPaginator;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import static com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CATEGORIES;
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.GENRES;
+import static com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationUtils.search;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    private static final String EXPORT = "select c from CategoryJpaEntity c order by c.id";
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final CategoryRepository repository;
+    private final CacheInvalidationMySQLGateway invalidations;
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final SpecificationPaginator<CategoryJpaEntity> paginator;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final CacheInvalidationMySQLGateway invalidations,
+            final EntityManager entityManager,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize) {
         this.repository = Objects.requireNonNull(repository);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.exportFetchSize = exportFetchSize;
+        this.paginator = new SpecificationPaginator<>(
+                entityManager,
+                repository,
+                CategoryJpaEntity.class,
+                CategoryJpaEntity::getId,
+                SortableFields.of("name", "createdAt")
+        );
     }
 
     @Override
+    @Transactional
     public Category create(final Category category) {
-        return this.repository
+        final Category created = this.repository
                 .save(CategoryJpaEntity.from(category))
                 .toAggregate();
+        this.invalidations.record(CATEGORIES, created.getId());
+        this.paginator.invalidateCounts();
+        return created;
+    }
+
+    /**
+     * Persists the chunk in one transaction, the inserts sent as JDBC batches. A single
+     * whole-cache invalidation stands for all the new ids.
+     */
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        final List<Category> created = this.repository
+                .saveAll(categories.stream().map(CategoryJpaEntity::from).toList())
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        this.invalidations.recordEach(CATEGORIES, created.stream().map(Category::getId).toList());
+        this.paginator.invalidateCounts();
+        return created;
     }
 
+    /**
+     * The database also drops the category from every genre, so other nodes evict their
+     * genres too.
+     */
     @Override
+    @Transactional
     public void deleteById(final CategoryID categoryID) {
         final String idValue = categoryID.getValue();
 
-        if (this.repository.existsById(idValue)) {
-            this.repository.deleteById(idValue);
+        if (UUIDs.isValid(idValue)) {
+            this.repository.deleteRowById(idValue);
+            this.invalidations.record(CATEGORIES, categoryID);
+            this.paginator.invalidateCounts();
+            this.invalidations.recordAll(GENRES);
         }
     }
 
     @Override
     public Optional<Category> findById(final CategoryID id) {
+        if (!UUIDs.isValid(id.getValue())) {
+            return Optional.empty();
+        }
         return this.repository
                 .findById(id.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
+    public List<Category> findAllByIds(final List<CategoryID> ids) {
+        return InClauses.findAllInOrder(ids, this.repository::findAllById, CategoryJpaEntity::getId)
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category category) {
-        return this.repository
-                .save(CategoryJpaEntity.from(category))
+        final CategoryJpaEntity entity = CategoryJpaEntity.from(category);
+        entity.markNotNew();
+        final Category updated = this.repository
+                .save(entity)
                 .toAggregate();
+        this.invalidations.record(CATEGORIES, updated.getId());
+        this.paginator.invalidateCounts();
+        return updated;
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery query) {
 
-        final PageRequest pageRequest = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(
-                        Sort.Direction.fromString(query.direction()),
-                        query.sort()
-                )
-        );
-
         final Specification<CategoryJpaEntity> specification = Optional.ofNullable(query.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::specification)
                 .orElse(null);
 
-        final Page<CategoryJpaEntity> pageResult = this.repository.findAll(Specification.where(specification), pageRequest);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+        return this.paginator
+                .paginate(specification, query)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public List<CategoryID> existsByIds(final List<CategoryID> categoryIDS) {
         final List<String> ids = categoryIDS.stream()
                 .map(CategoryID::getValue)
+                .filter(UUIDs::isValid)
+                .distinct()
                 .toList();
 
-        return this.repository
-                .findByIdIn(ids).stream()
-                .map(this::categoryJpaEntityToCategoryId)
-                .toList();
+        final List<CategoryID> existing = new ArrayList<>(ids.size());
+        for (final List<String> chunk : InClauses.chunks(ids)) {
+            this.repository.existingIds(chunk).stream()
+                    .map(CategoryID::from)
+                    .forEach(existing::add);
+        }
+        return existing;
     }
 
-    private Specification<CategoryJpaEntity> specification(final String term) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", term);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", term);
-        return nameLike.or(descriptionLike);
+    /**
+     * Streams every stored category in id order; see {@link JpaStreams}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Category> consumer) {
+        JpaStreams.forEach(
+                this.entityManager,
+                this.entityManager.createQuery(EXPORT, CategoryJpaEntity.class),
+                this.exportFetchSize,
+                entity -> consumer.accept(entity.toAggregate())
+        );
+    }
+
+    /**
+     * Feeds every stored category id to the consumer, streaming the rows instead of
+     * collecting them. Used to build the {@link CategoryIdIndex}.
+     */
+    @Transactional(readOnly = true)
+    public void forEachId(final Consumer<CategoryID> consumer) {
+        try (final Stream<String> ids = this.repository.streamAllIds()) {
+            ids.map(CategoryID::from).forEach(consumer);
+        }
     }
 
-    private CategoryID categoryJpaEntityToCategoryId(final CategoryJpaEntity entity) {
-        return CategoryID.from(entity.getId());
+    private Specification<CategoryJpaEntity> specification(final String terms) {
+        return search(terms, "name", "description");
     }
 }
@@ -2,18 +2,33 @@ package com.ioliveira.admin.catalogo.infrastructure.category.persistence;
 
 import com.ioliveira.admin.catalogo.domain.category.Category;
 import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDStringBinaryType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+public class CategoryJpaEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "category";
 
     @Id
+    @Type(type = UUIDStringBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +49,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public CategoryJpaEntity() {
     }
 
@@ -79,6 +97,22 @@ public class CategoryJpaEntity {
         );
     }
 
+    /**
+     * Ids are assigned by the domain, so Spring Data cannot infer newness from a null id.
+     * Without this, every save of a new entity would merge and select before inserting.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -4,14 +4,47 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
+
+    String EXISTING_IDS_CACHE_REGION = "category-ids";
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
-    /*@Query(value = "select c.id from CategoryJpaEntity c where c.id in :ids")
-    List<String> existsById(@Param("ids") List<String> ids);*/
-    List<CategoryJpaEntity> findByIdIn(List<String> ids);
+    /**
+     * Results go to the query cache; any write to the category table invalidates them.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = EXISTING_IDS_CACHE_REGION)
+    })
+    @Query(value = "select c.id from CategoryJpaEntity c where c.id in :ids")
+    List<String> existingIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = "select c.id from CategoryJpaEntity c")
+    Stream<String> streamAllIds();
+
+    /**
+     * Single-statement delete, without loading the entity first.
+     *
+     * @return the number of rows affected
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int deleteRowById(@Param("id") String id);
 }
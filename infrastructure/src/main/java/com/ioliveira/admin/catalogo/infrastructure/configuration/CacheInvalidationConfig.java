@@ -0,0 +1,51 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidationMySQLGateway;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidationPoller;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryIdIndex;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.GatewayCaches;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.LocalCacheEvictor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Evicts locally what other nodes wrote, by tailing the invalidation log the MySQL gateways
+ * fill ({@code cache.gateways.invalidation-log}). Independent of the gateway caches: the
+ * second-level cache needs it even when they are all off.
+ */
+@Configuration
+@ConditionalOnExpression("${cache.gateways.invalidation-log:false}")
+public class CacheInvalidationConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheInvalidationPoller cacheInvalidationPoller(
+            final CacheInvalidationMySQLGateway cacheInvalidationMySQLGateway,
+            final ObjectProvider<GatewayCaches> gatewayCaches,
+            final ObjectProvider<CategoryIdIndex> categoryIdIndex,
+            final EntityManagerFactory entityManagerFactory,
+            @Value("${cache.gateways.invalidation-poll-interval:1s}") final Duration interval,
+            @Value("${cache.gateways.invalidation-grace:5s}") final Duration grace,
+            @Value("${cache.gateways.invalidation-retention:1h}") final Duration retention) {
+
+        final CacheInvalidationPoller poller = new CacheInvalidationPoller(
+                cacheInvalidationMySQLGateway,
+                new LocalCacheEvictor(
+                        gatewayCaches.getIfAvailable(),
+                        categoryIdIndex.getIfAvailable(),
+                        entityManagerFactory
+                ),
+                grace,
+                retention,
+                Clock.systemUTC()
+        );
+        poller.start(interval);
+        return poller;
+    }
+}
@@ -0,0 +1,188 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.infrastructure.castmember.CastMemberCachingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.castmember.CastMemberCoalescingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryCachingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryCoalescingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryIdIndex;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryIndexedGateway;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.GatewayCaches;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.ResponseCache;
+import com.ioliveira.admin.catalogo.infrastructure.genre.GenreCachingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.genre.GenreCoalescingGateway;
+import com.ioliveira.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Decorates the MySQL gateways and registers the result as the primary bean of each gateway
+ * type, so the use case configurations receive it. Requests first hit the result caches
+ * ({@code cache.gateways.enabled}); misses go through single-flight coalescing
+ * ({@code cache.gateways.single-flight}) and then to MySQL. Either layer can be used alone.
+ * Category existence checks are answered by an id index in front of both
+ * ({@code cache.gateways.category-index}), loaded once the application is ready. Writes on
+ * other nodes reach these caches through the invalidation log ({@link CacheInvalidationConfig}).
+ * The get-by-id endpoints can reuse the serialized bytes of the cached aggregates
+ * ({@code cache.gateways.responses}).
+ */
+@Configuration
+@ConditionalOnExpression("${cache.gateways.enabled:false} or ${cache.gateways.single-flight:false} or ${cache.gateways.category-index:false}")
+public class GatewayCacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast_members";
+
+    private final boolean caching;
+    private final boolean singleFlight;
+    private final boolean categoryIndex;
+    private final MeterRegistry meterRegistry;
+
+    public GatewayCacheConfig(
+            @Value("${cache.gateways.enabled:false}") final boolean caching,
+            @Value("${cache.gateways.single-flight:false}") final boolean singleFlight,
+            @Value("${cache.gateways.category-index:false}") final boolean categoryIndex,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+
+        this.caching = caching;
+        this.singleFlight = singleFlight;
+        this.categoryIndex = categoryIndex;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Bean
+    public GatewayCaches gatewayCaches(
+            @Value("${cache.gateways.maximum-size:10000}") final long maximumSize,
+            @Value("${cache.gateways.ttl:10m}") final Duration ttl,
+            @Value("${cache.gateways.missing-ttl:30s}") final Duration missingTtl) {
+
+        return new GatewayCaches(maximumSize, ttl, missingTtl, this.meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnExpression("${cache.gateways.enabled:false} and ${cache.gateways.responses:false}")
+    public ResponseCache responseCache(
+            final GatewayCaches gatewayCaches,
+            final ObjectMapper objectMapper,
+            @Value("${server.compression.min-response-size:2KB}") final DataSize minGzipSize) {
+
+        return new ResponseCache(gatewayCaches, objectMapper, minGzipSize.toBytes());
+    }
+
+    @Bean
+    public CategoryIdIndex categoryIdIndex() {
+        return new CategoryIdIndex();
+    }
+
+    @Bean
+    @Primary
+    public CategoryGateway decoratedCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final GatewayCaches gatewayCaches,
+            final CategoryIdIndex categoryIdIndex) {
+
+        CategoryGateway gateway = categoryMySQLGateway;
+        if (this.singleFlight) {
+            gateway = new CategoryCoalescingGateway(
+                    gateway,
+                    singleFlight(CATEGORIES, "findById"),
+                    singleFlight(CATEGORIES, "findAll")
+            );
+        }
+        if (this.caching) {
+            gateway = new CategoryCachingGateway(
+                    gateway,
+                    gatewayCaches.get(CATEGORIES),
+                    gatewayCaches.missing(CATEGORIES),
+                    gatewayCaches.pages(CATEGORIES),
+                    gatewayCaches.get(GENRES),
+                    gatewayCaches.pages(GENRES)
+            );
+        }
+        if (this.categoryIndex) {
+            gateway = new CategoryIndexedGateway(gateway, categoryIdIndex);
+        }
+        return gateway;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCategoryIdIndex(final ApplicationReadyEvent event) {
+        if (this.categoryIndex) {
+            final ApplicationContext context = event.getApplicationContext();
+            context.getBean(CategoryIdIndex.class).load(context.getBean(CategoryMySQLGateway.class)::forEachId);
+        }
+    }
+
+    @Bean
+    @Primary
+    public GenreGateway decoratedGenreGateway(
+            final GenreMySQLGateway genreMySQLGateway,
+            final GatewayCaches gatewayCaches) {
+
+        GenreGateway gateway = genreMySQLGateway;
+        if (this.singleFlight) {
+            gateway = new GenreCoalescingGateway(
+                    gateway,
+                    singleFlight(GENRES, "findById"),
+                    singleFlight(GENRES, "findAll"),
+                    singleFlight(GENRES, "findAllPreviews")
+            );
+        }
+        if (this.caching) {
+            gateway = new GenreCachingGateway(
+                    gateway,
+                    gatewayCaches.get(GENRES),
+                    gatewayCaches.missing(GENRES),
+                    gatewayCaches.pages(GENRES)
+            );
+        }
+        return gateway;
+    }
+
+    @Bean
+    @Primary
+    public CastMemberGateway decoratedCastMemberGateway(
+            final CastMemberMySQLGateway castMemberMySQLGateway,
+            final GatewayCaches gatewayCaches) {
+
+        CastMemberGateway gateway = castMemberMySQLGateway;
+        if (this.singleFlight) {
+            gateway = new CastMemberCoalescingGateway(
+                    gateway,
+                    singleFlight(CAST_MEMBERS, "findById"),
+                    singleFlight(CAST_MEMBERS, "findAll")
+            );
+        }
+        if (this.caching) {
+            gateway = new CastMemberCachingGateway(
+                    gateway,
+                    gatewayCaches.get(CAST_MEMBERS),
+                    gatewayCaches.missing(CAST_MEMBERS),
+                    gatewayCaches.pages(CAST_MEMBERS)
+            );
+        }
+        return gateway;
+    }
+
+    private <K, V> SingleFlight<K, V> singleFlight(final String gateway, final String operation) {
+        return new SingleFlight<>(gateway, operation, this.meterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerator;
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerators;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(
+            @Value("${ids.category:time-ordered}") final String category,
+            @Value("${ids.genre:time-ordered}") final String genre,
+            @Value("${ids.cast-member:time-ordered}") final String castMember) {
+
+        IdGenerators.use(CategoryID.class, generator(category));
+        IdGenerators.use(GenreID.class, generator(genre));
+        IdGenerators.use(CastMemberID.class, generator(castMember));
+    }
+
+    private static IdGenerator generator(final String name) {
+        return switch (name) {
+            case "time-ordered" -> IdGenerator.timeOrdered();
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalArgumentException(
+                    "Unknown id generator '%s', expected 'time-ordered' or 'random'".formatted(name));
+        };
+    }
+}
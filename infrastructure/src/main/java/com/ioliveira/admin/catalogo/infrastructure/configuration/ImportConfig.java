@@ -0,0 +1,45 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobMySQLGateway;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Background imports behind {@code /imports}. Rows reach the bulk create use cases in chunks
+ * of {@code bulk.chunk-size}, the same size each of their transactions persists, so it may
+ * not exceed {@code bulk.max-items}; startup fails otherwise.
+ */
+@Configuration
+public class ImportConfig {
+
+    @Bean(destroyMethod = "close")
+    public ImportJobs importJobs(
+            final ImportJobMySQLGateway importJobMySQLGateway,
+            @Value("${bulk.chunk-size:500}") final int chunkSize,
+            @Value("${bulk.max-items:1000}") final int maxItems,
+            @Value("${imports.max-concurrent:2}") final int maxConcurrent,
+            @Value("${imports.max-queued:10}") final int maxQueued,
+            @Value("${imports.max-errors:1000}") final int maxErrors,
+            @Value("${imports.retention:1h}") final Duration retention,
+            @Value("${imports.heartbeat:30s}") final Duration heartbeat,
+            @Value("${imports.stale-after:5m}") final Duration staleAfter) {
+        final ImportJobs importJobs = new ImportJobs(
+                importJobMySQLGateway,
+                chunkSize,
+                maxItems,
+                maxConcurrent,
+                maxQueued,
+                maxErrors,
+                retention,
+                staleAfter,
+                Clock.systemUTC()
+        );
+        importJobs.start(heartbeat);
+        return importJobs;
+    }
+}
@@ -52,6 +52,7 @@ public class SecurityConfig {
                 .antMatchers("/cast_members*").hasAnyRole(ROLE_ADMIN, ROLE_CAST_MEMBERS)
                 .antMatchers("/categories*").hasAnyRole(ROLE_ADMIN, ROLE_CATEGORIES)
                 .antMatchers("/genres*").hasAnyRole(ROLE_ADMIN, ROLE_GENRES)
+                .antMatchers("/actuator/health/**").permitAll() // Probes de liveness/readiness do orquestrador
                 .anyRequest().hasAnyRole(ROLE_ADMIN);// Caso não seja nenhuma das rotas acima, precisa ter role de admin
 
         httpSecurity
@@ -0,0 +1,88 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
+import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
+import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GetGenreByIdUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.list.ListGenreUseCase;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.warmup.ApplicationWarmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registers the {@link ApplicationWarmup} that {@code Main} runs once the context is up.
+ * Synthetic calls only read, or hit the validation failures of the create use cases, so
+ * warming up never writes. Unknown ids are random UUIDs, answered with a not-found.
+ */
+@Configuration
+public class WarmupConfig {
+
+    @Bean
+    public ApplicationWarmup warmup(
+            @Value("${warmup.enabled:false}") final boolean enabled,
+            @Value("${warmup.iterations:500}") final int iterations,
+            @Value("${warmup.preload-size:100}") final int preloadSize,
+            @Value("${warmup.time-budget:30s}") final Duration timeBudget,
+            final DataSource dataSource,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final CreateCategoryUseCase createCategoryUseCase,
+            final ListGenreUseCase listGenreUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final CreateGenreUseCase createGenreUseCase,
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final CreateCastMemberUseCase createCastMemberUseCase) {
+
+        final SearchQuery firstPage = new SearchQuery(0, 10, "", "name", "asc", null, TotalMode.EXACT);
+
+        final List<Runnable> syntheticCalls = List.of(
+                () -> listCategoriesUseCase.execute(firstPage),
+                () -> getCategoryByIdUseCase.execute(UUID.randomUUID().toString()),
+                () -> createCategoryUseCase.execute(CreateCategoryCommand.with("", null, true)),
+                () -> listGenreUseCase.execute(firstPage),
+                () -> getGenreByIdUseCase.execute(UUID.randomUUID().toString()),
+                () -> createGenreUseCase.execute(CreateGenreCommand.with("", true, List.of())),
+                () -> listCastMembersUseCase.execute(firstPage),
+                () -> getCastMemberByIdUseCase.execute(UUID.randomUUID().toString()),
+                () -> createCastMemberUseCase.execute(CreateCastMemberCommand.with("", null))
+        );
+
+        final List<Runnable> preloads = List.of(
+                ApplicationWarmup.preload(categoryGateway::findAll, Category::getId, categoryGateway::findById, preloadSize),
+                ApplicationWarmup.preload(genreGateway::findAllPreviews, GenrePreview::id, genreGateway::findById, preloadSize),
+                ApplicationWarmup.preload(castMemberGateway::findAll, CastMember::getId, castMemberGateway::findById, preloadSize)
+        );
+
+        final ApplicationWarmup warmup =
+                new ApplicationWarmup(dataSource, syntheticCalls, preloads, iterations, timeBudget);
+        if (!enabled) {
+            warmup.skip();
+        }
+        return warmup;
+    }
+}
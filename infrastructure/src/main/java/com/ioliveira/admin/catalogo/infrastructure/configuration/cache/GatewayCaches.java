@@ -0,0 +1,113 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.ioliveira.admin.catalogo.domain.Identifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named in-memory caches used by the caching gateways. Every cache is bounded, expires
+ * entries after the configured TTL and publishes its hit/miss statistics as
+ * {@code cache.*} metrics tagged with its name.
+ * <p>
+ * Caches are shared by name, so a gateway can invalidate a cache owned by another one
+ * (e.g. genres holding a deleted category). {@link #missing(String)} caches keep ids known
+ * not to exist, for a shorter TTL, and {@link #pages(String)} holds list results.
+ * {@link #responses(String)} caches hold the serialized responses of the aggregates, keyed by
+ * id value; an entry is dropped whenever its aggregate leaves the named cache.
+ */
+public class GatewayCaches {
+
+    private final long maximumSize;
+    private final Duration ttl;
+    private final Duration missingTtl;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, PageCache> pages = new ConcurrentHashMap<>();
+
+    public GatewayCaches(
+            final long maximumSize,
+            final Duration ttl,
+            final Duration missingTtl,
+            final MeterRegistry meterRegistry) {
+
+        this.maximumSize = maximumSize;
+        this.ttl = Objects.requireNonNull(ttl);
+        this.missingTtl = Objects.requireNonNull(missingTtl);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> get(final String name) {
+        return (Cache<K, V>) this.caches.computeIfAbsent(name, it -> create(it, this.ttl, dropResponse(it)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K> Cache<K, Boolean> missing(final String name) {
+        return (Cache<K, Boolean>) this.caches.computeIfAbsent(name + ".missing", it -> create(it, this.missingTtl, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Cache<String, SerializedResponse> responses(final String name) {
+        return (Cache<String, SerializedResponse>) this.caches.computeIfAbsent(name + ".responses", it -> create(it, this.ttl, null));
+    }
+
+    public PageCache pages(final String name) {
+        return this.pages.computeIfAbsent(name, it -> new PageCache(it, get(it + ".pages"), this.meterRegistry));
+    }
+
+    /**
+     * Drops the entry of {@code key} from the named cache and from its missing ids, and
+     * every cached page of it.
+     */
+    public void evict(final String name, final Object key) {
+        get(name).invalidate(key);
+        missing(name).invalidate(key);
+        pages(name).invalidate();
+    }
+
+    public void evictAll(final String name) {
+        get(name).invalidateAll();
+        missing(name).invalidateAll();
+        pages(name).invalidate();
+    }
+
+    /**
+     * Runs on the calling thread, so a write has dropped the response by the time it returns.
+     */
+    private RemovalListener<Object, Object> dropResponse(final String name) {
+        return (key, value, cause) -> {
+            if (key instanceof Identifier id) {
+                responses(name).invalidate(id.getValue());
+            }
+        };
+    }
+
+    private Cache<Object, Object> create(
+            final String name,
+            final Duration expireAfterWrite,
+            final RemovalListener<Object, Object> removalListener) {
+
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(this.maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats();
+        if (removalListener != null) {
+            builder.executor(Runnable::run).removalListener(removalListener);
+        }
+
+        final Cache<Object, Object> cache = builder.build();
+
+        if (this.meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(this.meterRegistry, cache, name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidation;
+import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryIdIndex;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+import org.hibernate.SessionFactory;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CAST_MEMBERS;
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CATEGORIES;
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.GENRES;
+
+/**
+ * Applies a row of the invalidation log to every cache layer of this node: the gateway
+ * caches and the category id index, when they are configured, and the Hibernate
+ * second-level cache, which is always on. A whole-cache row evicts the whole entity region
+ * and, for categories, the existence query region.
+ * <p>
+ * The id index only vouches for presence, so only a per-id row removes anything from it;
+ * for an id another node just created that merely sends the next lookup to the database.
+ */
+public class LocalCacheEvictor implements Consumer<CacheInvalidation> {
+
+    private final GatewayCaches gatewayCaches;
+    private final CategoryIdIndex categoryIdIndex;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @param gatewayCaches   null when no gateway cache is configured
+     * @param categoryIdIndex null when no gateway cache is configured
+     */
+    public LocalCacheEvictor(
+            final GatewayCaches gatewayCaches,
+            final CategoryIdIndex categoryIdIndex,
+            final EntityManagerFactory entityManagerFactory) {
+
+        this.gatewayCaches = gatewayCaches;
+        this.categoryIdIndex = categoryIdIndex;
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory);
+    }
+
+    @Override
+    public void accept(final CacheInvalidation invalidation) {
+        if (invalidation.isWholeCache()) {
+            evictAll(invalidation.cacheName());
+        } else {
+            evict(invalidation.cacheName(), invalidation.key());
+        }
+    }
+
+    private void evictAll(final String name) {
+        if (this.gatewayCaches != null) {
+            this.gatewayCaches.evictAll(name);
+        }
+        switch (name) {
+            case CATEGORIES -> {
+                this.entityManagerFactory.getCache().evict(CategoryJpaEntity.class);
+                evictExistingIds();
+            }
+            case CAST_MEMBERS -> this.entityManagerFactory.getCache().evict(CastMemberJpaEntity.class);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * A delete records the id as the client sent it, in any case; the caches hold the
+     * lower-case form.
+     */
+    private void evict(final String name, final String value) {
+        final String key = UUIDs.normalize(value);
+        switch (name) {
+            case CATEGORIES -> {
+                final CategoryID id = CategoryID.from(key);
+                evictGateway(name, id);
+                if (this.categoryIdIndex != null) {
+                    this.categoryIdIndex.remove(id);
+                }
+                this.entityManagerFactory.getCache().evict(CategoryJpaEntity.class, key);
+                evictExistingIds();
+            }
+            case GENRES -> evictGateway(name, GenreID.from(key));
+            case CAST_MEMBERS -> {
+                evictGateway(name, CastMemberID.from(key));
+                this.entityManagerFactory.getCache().evict(CastMemberJpaEntity.class, key);
+            }
+            default -> evictAll(name);
+        }
+    }
+
+    private void evictGateway(final String name, final Object id) {
+        if (this.gatewayCaches != null) {
+            this.gatewayCaches.evict(name, id);
+        }
+    }
+
+    private void evictExistingIds() {
+        this.entityManagerFactory.unwrap(SessionFactory.class)
+                .getCache()
+                .evictQueryRegion(CategoryRepository.EXISTING_IDS_CACHE_REGION);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * List results of one aggregate, keyed by the normalized {@link SearchQuery} and the current
+ * generation. {@link #invalidate()} bumps the generation, which makes every cached page
+ * unreachable at once; the stale entries then age out of the bounded cache.
+ * <p>
+ * The generation is published as the {@code cache.generation} gauge. The pages loaded in each
+ * generation are counted as they are stored, and the count is added to the
+ * {@code cache.generation.evictions} counter when the generation is bumped, so invalidating
+ * never walks the cache. A page loaded across a bump is counted in the new generation.
+ */
+public class PageCache {
+
+    private final Cache<Key, Pagination<?>> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder generationPages = new LongAdder();
+    private final Counter evictions;
+
+    public PageCache(final String name, final Cache<Key, Pagination<?>> pages, final MeterRegistry meterRegistry) {
+        this.pages = Objects.requireNonNull(pages);
+
+        if (meterRegistry != null) {
+            Gauge.builder("cache.generation", this.generation, AtomicLong::get)
+                    .tag("cache", name)
+                    .register(meterRegistry);
+            this.evictions = Counter.builder("cache.generation.evictions")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        } else {
+            this.evictions = null;
+        }
+    }
+
+    /**
+     * @param view distinguishes result types read with the same query (e.g. previews)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Pagination<T> get(
+            final String view,
+            final SearchQuery query,
+            final Function<SearchQuery, Pagination<T>> loader) {
+
+        final Key key = new Key(this.generation.get(), view, normalize(query));
+
+        final Pagination<T> cached = (Pagination<T>) this.pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Pagination<T> page = loader.apply(query);
+        this.pages.put(key, page);
+        this.generationPages.increment();
+        return page;
+    }
+
+    public void invalidate() {
+        this.generation.incrementAndGet();
+        final long stale = this.generationPages.sumThenReset();
+        if (this.evictions != null) {
+            this.evictions.increment(stale);
+        }
+    }
+
+    public long generation() {
+        return this.generation.get();
+    }
+
+    private static SearchQuery normalize(final SearchQuery query) {
+        return new SearchQuery(
+                query.page(),
+                query.perPage(),
+                query.terms() == null ? "" : query.terms().trim().toLowerCase(Locale.ROOT),
+                query.sort(),
+                query.direction() == null ? null : query.direction().toLowerCase(Locale.ROOT),
+                query.hasCursor() ? query.cursor() : null,
+                query.total()
+        );
+    }
+
+    public record Key(long generation, String view, SearchQuery query) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Serves the single-aggregate GET endpoints from their serialized bytes. An entry is built
+ * from the presented body the first time a version is requested and is reused while the
+ * entity tag matches, so a hit skips the presenter and Jackson. A client accepting gzip gets
+ * the precompressed variant with its {@code Content-Encoding}, which the server compression
+ * leaves as is.
+ * <p>
+ * Entries live in {@link GatewayCaches#responses(String)} and are dropped with their
+ * aggregate; the entity tag check keeps a late entry of an older version from being served.
+ */
+public class ResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final GatewayCaches caches;
+    private final ObjectMapper mapper;
+    private final long minGzipSize;
+
+    public ResponseCache(final GatewayCaches caches, final ObjectMapper mapper, final long minGzipSize) {
+        this.caches = Objects.requireNonNull(caches);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.minGzipSize = minGzipSize;
+    }
+
+    /**
+     * Same contract as {@code ETags.conditional}, except that a {@code 200} is written to the
+     * servlet response here and {@code null} is returned, which tells Spring MVC the request
+     * was handled.
+     */
+    public <T> ResponseEntity<T> serve(
+            final WebRequest request,
+            final String name,
+            final String id,
+            final String etag,
+            final Supplier<T> body
+    ) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        final HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response == null) {
+            return ResponseEntity.ok().eTag(etag).body(body.get());
+        }
+
+        final SerializedResponse serialized = get(name, id, etag, body);
+        final boolean gzip = serialized.hasGzip() && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        final byte[] bytes = gzip ? serialized.gzip() : serialized.identity();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(bytes.length);
+        try {
+            response.getOutputStream().write(bytes);
+            response.flushBuffer();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private SerializedResponse get(final String name, final String id, final String etag, final Supplier<?> body) {
+        final Cache<String, SerializedResponse> responses = this.caches.responses(name);
+
+        final SerializedResponse cached = responses.getIfPresent(id);
+        if (cached != null && cached.etag().equals(etag)) {
+            return cached;
+        }
+
+        final SerializedResponse serialized = SerializedResponse.of(etag, serialize(body.get()), this.minGzipSize);
+        responses.put(id, serialized);
+        return serialized;
+    }
+
+    private byte[] serialize(final Object body) {
+        try {
+            return this.mapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * An explicit {@code gzip} coding decides by its quality value; otherwise {@code *} does.
+     */
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Boolean wildcard = null;
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            final String value = parts[0].trim().toLowerCase(Locale.ROOT);
+            final boolean accepted = quality(parts) > 0;
+            if (GZIP.equals(value)) {
+                return accepted;
+            }
+            if ("*".equals(value)) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
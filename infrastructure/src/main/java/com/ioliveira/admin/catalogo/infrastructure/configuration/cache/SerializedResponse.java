@@ -0,0 +1,32 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON of one version of a response, identified by its entity tag. The gzip variant is
+ * compressed once, when the entry is built, and is {@code null} for bodies too small to be
+ * worth compressing.
+ */
+public record SerializedResponse(String etag, byte[] identity, byte[] gzip) {
+
+    public static SerializedResponse of(final String etag, final byte[] json, final long minGzipSize) {
+        return new SerializedResponse(etag, json, json.length >= minGzipSize ? gzip(json) : null);
+    }
+
+    public boolean hasGzip() {
+        return this.gzip != null;
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
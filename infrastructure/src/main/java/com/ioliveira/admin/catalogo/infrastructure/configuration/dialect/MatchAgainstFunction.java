@@ -0,0 +1,56 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+/**
+ * Renders {@code match_against(col1, ..., colN, :terms)} as
+ * {@code MATCH(col1, ..., colN) AGAINST(:terms IN BOOLEAN MODE)}, returning the relevance score.
+ * The columns must be exactly the ones of a FULLTEXT index.
+ */
+public class MatchAgainstFunction implements SQLFunction {
+
+    public static final String NAME = "match_against";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) {
+            throw new QueryException(NAME + " requires at least one column and the search terms");
+        }
+
+        final int last = arguments.size() - 1;
+        final StringBuilder sql = new StringBuilder("MATCH(");
+        for (int i = 0; i < last; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(arguments.get(i));
+        }
+        return sql.append(") AGAINST(")
+                .append(arguments.get(last))
+                .append(" IN BOOLEAN MODE)")
+                .toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.dialect.MySQL5InnoDBDialect;
+
+/**
+ * MySQL dialect with the {@link MatchAgainstFunction} registered, so FULLTEXT searches
+ * can be expressed through the Criteria API.
+ */
+public class MySQLFullTextDialect extends MySQL5InnoDBDialect {
+
+    public MySQLFullTextDialect() {
+        super();
+        registerFunction(MatchAgainstFunction.NAME, new MatchAgainstFunction());
+    }
+}
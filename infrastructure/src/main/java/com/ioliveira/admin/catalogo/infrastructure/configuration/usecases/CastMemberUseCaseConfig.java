@@ -1,9 +1,15 @@
 package com.ioliveira.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.ioliveira.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.create.DefaultBulkCreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.BulkGetCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.DefaultBulkGetCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
@@ -11,6 +17,7 @@ import com.ioliveira.admin.catalogo.application.castmember.retrieve.list.ListCas
 import com.ioliveira.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +37,14 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase(
+            @Value("${bulk.chunk-size:500}") final int chunkSize,
+            @Value("${bulk.max-items:1000}") final int maxItems) {
+
+        return new DefaultBulkCreateCastMemberUseCase(castMemberGateway, chunkSize, maxItems);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
@@ -40,6 +55,16 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
     }
 
+    @Bean
+    public BulkGetCastMemberUseCase bulkGetCastMemberUseCase(@Value("${bulk.max-ids:1000}") final int maxIds) {
+        return new DefaultBulkGetCastMemberUseCase(castMemberGateway, maxIds);
+    }
+
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(castMemberGateway);
@@ -1,9 +1,15 @@
 package com.ioliveira.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.ioliveira.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.create.DefaultBulkCreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.BulkGetCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.DefaultBulkGetCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -11,6 +17,7 @@ import com.ioliveira.admin.catalogo.application.category.retrieve.list.ListCateg
 import com.ioliveira.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +37,14 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkCreateCategoryUseCase bulkCreateCategoryUseCase(
+            @Value("${bulk.chunk-size:500}") final int chunkSize,
+            @Value("${bulk.max-items:1000}") final int maxItems) {
+
+        return new DefaultBulkCreateCategoryUseCase(categoryGateway, chunkSize, maxItems);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -40,6 +55,16 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkGetCategoryUseCase bulkGetCategoryUseCase(@Value("${bulk.max-ids:1000}") final int maxIds) {
+        return new DefaultBulkGetCategoryUseCase(categoryGateway, maxIds);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
@@ -1,9 +1,15 @@
 package com.ioliveira.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.ioliveira.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.create.DefaultBulkCreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.export.DefaultExportGenresUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.export.ExportGenresUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.BulkGetGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.DefaultBulkGetGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.get.DefaultGetGenreByIdUseCase;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GetGenreByIdUseCase;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.list.DefaultListGenreUseCase;
@@ -12,6 +18,7 @@ import com.ioliveira.admin.catalogo.application.genre.update.DefaultUpdateGenreU
 import com.ioliveira.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -33,6 +40,14 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(genreGateway, categoryGateway);
     }
 
+    @Bean
+    public BulkCreateGenreUseCase bulkCreateGenreUseCase(
+            @Value("${bulk.chunk-size:500}") final int chunkSize,
+            @Value("${bulk.max-items:1000}") final int maxItems) {
+
+        return new DefaultBulkCreateGenreUseCase(genreGateway, categoryGateway, chunkSize, maxItems);
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(genreGateway, categoryGateway);
@@ -43,6 +58,16 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
 
+    @Bean
+    public BulkGetGenreUseCase bulkGetGenreUseCase(@Value("${bulk.max-ids:1000}") final int maxIds) {
+        return new DefaultBulkGetGenreUseCase(genreGateway, maxIds);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(genreGateway);
@@ -0,0 +1,159 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.warmup;
+
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Warms the application up after startup: opens the idle connections of the pool, runs the
+ * use cases through synthetic calls so the JIT compiles their hot paths, and preloads the
+ * newest aggregates into the gateway caches. Everything stops once the time budget is spent.
+ * <p>
+ * Also a health indicator in the readiness group: it reports {@code OUT_OF_SERVICE} until
+ * the warm-up finishes, so no traffic is routed to a cold instance.
+ */
+public class ApplicationWarmup implements HealthIndicator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationWarmup.class);
+
+    private final DataSource dataSource;
+    private final List<Runnable> syntheticCalls;
+    private final List<Runnable> preloads;
+    private final int iterations;
+    private final Duration timeBudget;
+    private volatile boolean finished;
+    private volatile Duration elapsed = Duration.ZERO;
+
+    public ApplicationWarmup(
+            final DataSource dataSource,
+            final List<Runnable> syntheticCalls,
+            final List<Runnable> preloads,
+            final int iterations,
+            final Duration timeBudget) {
+
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.syntheticCalls = List.copyOf(syntheticCalls);
+        this.preloads = List.copyOf(preloads);
+        this.iterations = iterations;
+        this.timeBudget = Objects.requireNonNull(timeBudget);
+    }
+
+    /**
+     * Reads the first page of an aggregate, newest first, and loads each item by id so it
+     * lands in the id caches as well as in the page cache.
+     */
+    public static <T, I> Runnable preload(
+            final Function<SearchQuery, Pagination<T>> findAll,
+            final Function<T, I> idOf,
+            final Consumer<I> findById,
+            final int size) {
+
+        final SearchQuery newest = new SearchQuery(0, size, "", "createdAt", "desc", null, TotalMode.NONE);
+        return () -> findAll.apply(newest).items().stream().map(idOf).forEach(findById);
+    }
+
+    public synchronized void run() {
+        if (this.finished) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final long deadline = start + this.timeBudget.toNanos();
+        try {
+            fillConnectionPool();
+
+            int calls = 0;
+            for (int i = 0; i < this.iterations && System.nanoTime() < deadline; i++) {
+                for (final Runnable call : this.syntheticCalls) {
+                    runQuietly(call);
+                    calls++;
+                }
+            }
+
+            int preloads = 0;
+            for (final Runnable preload : this.preloads) {
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                runQuietly(preload);
+                preloads++;
+            }
+
+            this.elapsed = Duration.ofNanos(System.nanoTime() - start);
+            LOG.info("Warm-up finished in {} ms: {} synthetic calls, {} of {} preloads{}",
+                    this.elapsed.toMillis(), calls, preloads, this.preloads.size(),
+                    System.nanoTime() >= deadline ? " (time budget exhausted)" : "");
+        } finally {
+            this.finished = true;
+        }
+    }
+
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    @Override
+    public Health health() {
+        if (!this.finished) {
+            return Health.outOfService().build();
+        }
+        return Health.up().withDetail("elapsedMillis", this.elapsed.toMillis()).build();
+    }
+
+    /**
+     * Marks the warm-up as done without running it, for when it is disabled.
+     */
+    public void skip() {
+        this.finished = true;
+    }
+
+    private void fillConnectionPool() {
+        if (!(this.dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+
+        final List<Connection> connections = new ArrayList<>(hikari.getMinimumIdle());
+        try {
+            for (int i = 0; i < hikari.getMinimumIdle(); i++) {
+                final Connection connection = hikari.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } catch (final SQLException e) {
+            LOG.warn("Could not open all the idle connections during warm-up", e);
+        } finally {
+            connections.forEach(ApplicationWarmup::closeQuietly);
+        }
+    }
+
+    private static void runQuietly(final Runnable call) {
+        try {
+            call.run();
+        } catch (final RuntimeException e) {
+            // Synthetic calls exercise failure paths on purpose (invalid input, unknown ids).
+        }
+    }
+
+    private static void closeQuietly(final Connection connection) {
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            LOG.warn("Could not return a warm-up connection to the pool", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ioliveira.admin.catalogo.infrastructure.genre;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.PageCache;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Caches genres by id in front of another {@link GenreGateway}, evicting on every write.
+ * Ids that are not UUIDs or were recently found missing are answered without a query.
+ * List and preview pages are cached until the next write.
+ */
+public class GenreCachingGateway implements GenreGateway {
+
+    private static final String ITEMS = "items";
+    private static final String PREVIEWS = "previews";
+
+    private final GenreGateway delegate;
+    private final Cache<GenreID, Genre> genres;
+    private final Cache<GenreID, Boolean> missing;
+    private final PageCache pages;
+
+    public GenreCachingGateway(
+            final GenreGateway delegate,
+            final Cache<GenreID, Genre> genres,
+            final Cache<GenreID, Boolean> missing,
+            final PageCache pages) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.genres = Objects.requireNonNull(genres);
+        this.missing = Objects.requireNonNull(missing);
+        this.pages = Objects.requireNonNull(pages);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final Genre created = this.delegate.create(genre);
+        this.genres.invalidate(key(created.getId()));
+        this.missing.invalidate(key(created.getId()));
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        final List<Genre> created = this.delegate.createAll(genres);
+        final List<GenreID> ids = created.stream().map(it -> key(it.getId())).toList();
+        this.genres.invalidateAll(ids);
+        this.missing.invalidateAll(ids);
+        this.pages.invalidate();
+        return created;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.delegate.deleteById(id);
+        this.genres.invalidate(key(id));
+        this.pages.invalidate();
+        if (UUIDs.isValid(id.getValue())) {
+            this.missing.put(key(id), Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+            return Optional.empty();
+        }
+
+        final Genre cached = this.genres.getIfPresent(key(id));
+        if (cached != null) {
+            return Optional.of(Genre.clone(cached));
+        }
+
+        final Optional<Genre> genre = this.delegate.findById(id);
+        genre.ifPresentOrElse(
+                it -> this.genres.put(key(id), Genre.clone(it)),
+                () -> this.missing.put(key(id), Boolean.TRUE)
+        );
+        return genre;
+    }
+
+    /**
+     * Cached genres and recently missing ids are answered here; only the others reach the
+     * delegate, in a single call.
+     */
+    @Override
+    public List<Genre> findAllByIds(final List<GenreID> ids) {
+        final Map<String, Genre> found = new HashMap<>(ids.size());
+        final List<GenreID> unknown = new ArrayList<>(ids.size());
+
+        for (final GenreID id : ids) {
+            if (!UUIDs.isValid(id.getValue()) || this.missing.getIfPresent(key(id)) != null) {
+                continue;
+            }
+            final Genre cached = this.genres.getIfPresent(key(id));
+            if (cached != null) {
+                found.put(UUIDs.normalize(id.getValue()), Genre.clone(cached));
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (final Genre loaded : this.delegate.findAllByIds(unknown)) {
+                this.genres.put(key(loaded.getId()), Genre.clone(loaded));
+                found.put(UUIDs.normalize(loaded.getId().getValue()), loaded);
+            }
+            unknown.stream()
+                    .filter(id -> !found.containsKey(UUIDs.normalize(id.getValue())))
+                    .forEach(id -> this.missing.put(key(id), Boolean.TRUE));
+        }
+
+        return ids.stream()
+                .filter(id -> UUIDs.isValid(id.getValue()))
+                .map(id -> UUIDs.normalize(id.getValue()))
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        final Genre updated = this.delegate.update(genre);
+        this.genres.invalidate(key(updated.getId()));
+        this.pages.invalidate();
+        return updated;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.pages
+                .get(ITEMS, query, this.delegate::findAll)
+                .map(Genre::clone);
+    }
+
+    @Override
+    public Pagination<GenrePreview> findAllPreviews(final SearchQuery query) {
+        return this.pages.get(PREVIEWS, query, this.delegate::findAllPreviews);
+    }
+
+    @Override
+    public void forEach(final Consumer<Genre> consumer) {
+        this.delegate.forEach(consumer);
+    }
+
+    /**
+     * The database matches ids in any case, so entries are keyed by the lower-case form and
+     * a lookup by an upper-case id is evicted by a write of the same aggregate.
+     */
+    private static GenreID key(final GenreID id) {
+        return GenreID.from(UUIDs.normalize(id.getValue()));
+    }
+}
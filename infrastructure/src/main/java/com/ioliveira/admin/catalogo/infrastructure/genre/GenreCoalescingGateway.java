@@ -0,0 +1,87 @@
+package com.ioliveira.admin.catalogo.infrastructure.genre;
+
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shares one in-flight read among concurrent identical calls. Every caller gets its own
+ * copy of the aggregates; writes pass straight through.
+ */
+public class GenreCoalescingGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final SingleFlight<GenreID, Optional<Genre>> byId;
+    private final SingleFlight<SearchQuery, Pagination<Genre>> pages;
+    private final SingleFlight<SearchQuery, Pagination<GenrePreview>> previews;
+
+    public GenreCoalescingGateway(
+            final GenreGateway delegate,
+            final SingleFlight<GenreID, Optional<Genre>> byId,
+            final SingleFlight<SearchQuery, Pagination<Genre>> pages,
+            final SingleFlight<SearchQuery, Pagination<GenrePreview>> previews) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.byId = Objects.requireNonNull(byId);
+        this.pages = Objects.requireNonNull(pages);
+        this.previews = Objects.requireNonNull(previews);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        return this.delegate.create(genre);
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        return this.delegate.createAll(genres);
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        return this.byId
+                .run(id, () -> this.delegate.findById(id))
+                .map(Genre::clone);
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final List<GenreID> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        return this.delegate.update(genre);
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.pages
+                .run(query, () -> this.delegate.findAll(query))
+                .map(Genre::clone);
+    }
+
+    @Override
+    public Pagination<GenrePreview> findAllPreviews(final SearchQuery query) {
+        return this.previews.run(query, () -> this.delegate.findAllPreviews(query));
+    }
+
+    @Override
+    public void forEach(final Consumer<Genre> consumer) {
+        this.delegate.forEach(consumer);
+    }
+}
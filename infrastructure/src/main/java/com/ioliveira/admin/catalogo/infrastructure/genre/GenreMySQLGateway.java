@@ -3,83 +3,202 @@ package com.ioliveira.admin.catalogo.infrastructure.genre;
 import com.ioliveira.admin.catalogo.domain.genre.Genre;
 import com.ioliveira.admin.catalogo.domain.genre.GenreGateway;
 import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidationMySQLGateway;
 import com.ioliveira.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.genre.persistence.GenrePreviewProjection;
 import com.ioliveira.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.ioliveira.admin.catalogo.infrastructure.utils.InClauses;
+import com.ioliveira.admin.catalogo.infrastructure.utils.JpaStreams;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SortableFields;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationPaginator;
+import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationPaginator.Projection;
 import com.ioliveira.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.GENRES;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String EXPORT = "select g from GenreJpaEntity g left join fetch g.categories order by g.id";
+
+    private static final Projection<GenrePreviewProjection> PREVIEW = Projection.of(
+            GenrePreviewProjection.class,
+            GenrePreviewProjection::id,
+            GenrePreviewProjection.ATTRIBUTES
+    );
+
     private final GenreRepository genreRepository;
+    private final CacheInvalidationMySQLGateway invalidations;
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final SpecificationPaginator<GenreJpaEntity> paginator;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final CacheInvalidationMySQLGateway invalidations,
+            final EntityManager entityManager,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.invalidations = Objects.requireNonNull(invalidations);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.exportFetchSize = exportFetchSize;
+        this.paginator = new SpecificationPaginator<>(
+                entityManager,
+                genreRepository,
+                GenreJpaEntity.class,
+                GenreJpaEntity::getId,
+                SortableFields.of("name", "createdAt")
+        );
     }
 
+    /**
+     * Persists instead of merging: a merge would first select the genre and each of its
+     * category associations. The association inserts then share a single JDBC batch.
+     */
     @Override
+    @Transactional
     public Genre create(final Genre genre) {
-        return this.genreRepository
-                .save(GenreJpaEntity.from(genre))
-                .toAggregate();
+        final GenreJpaEntity entity = GenreJpaEntity.from(genre);
+        this.entityManager.persist(entity);
+        this.invalidations.record(GENRES, genre.getId());
+        this.paginator.invalidateCounts();
+        return entity.toAggregate();
+    }
+
+    /**
+     * Same as {@link #create(Genre)} for a whole chunk, in one transaction: the genre rows
+     * and the category associations are each sent as JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        final List<Genre> created = new ArrayList<>(genres.size());
+        for (final Genre genre : genres) {
+            final GenreJpaEntity entity = GenreJpaEntity.from(genre);
+            this.entityManager.persist(entity);
+            created.add(entity.toAggregate());
+        }
+        this.invalidations.recordEach(GENRES, created.stream().map(Genre::getId).toList());
+        this.paginator.invalidateCounts();
+        return created;
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID genreID) {
         final String id = genreID.getValue();
 
-        if (genreRepository.existsById(id)) {
-            this.genreRepository.deleteById(id);
+        if (UUIDs.isValid(id)) {
+            this.genreRepository.deleteRowById(id);
+            this.invalidations.record(GENRES, genreID);
+            this.paginator.invalidateCounts();
         }
     }
 
     @Override
     public Optional<Genre> findById(final GenreID id) {
+        if (!UUIDs.isValid(id.getValue())) {
+            return Optional.empty();
+        }
         return this.genreRepository
                 .findById(id.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    /**
+     * Each chunk is a single statement that also fetches the categories of its genres.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Genre> findAllByIds(final List<GenreID> ids) {
+        return InClauses.findAllInOrder(ids, this.genreRepository::findAllWithCategoriesByIdIn, GenreJpaEntity::getId)
+                .stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    /**
+     * Loads the stored genre with its categories and applies only the association delta,
+     * so unchanged join rows are neither deleted nor reinserted.
+     */
     @Override
+    @Transactional
     public Genre update(final Genre genre) {
-        return this.genreRepository
-                .save(GenreJpaEntity.from(genre))
+        final Genre updated = this.genreRepository
+                .findById(genre.getId().getValue())
+                .map(entity -> entity.syncWith(genre))
+                .orElseGet(() -> this.genreRepository.save(GenreJpaEntity.from(genre)))
                 .toAggregate();
+        this.invalidations.record(GENRES, updated.getId());
+        this.paginator.invalidateCounts();
+        return updated;
     }
 
+    /**
+     * The categories of the whole page come in one more statement, the same one
+     * {@link #findAllByIds} runs, instead of one per genre. They cannot be joined into the page
+     * query, since the limit would then apply to the joined rows.
+     */
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(final SearchQuery query) {
-        final PageRequest page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+        final Pagination<GenreJpaEntity> page = this.paginator.paginate(specification(query), query);
+        final List<GenreJpaEntity> items = InClauses.findAllInOrder(
+                page.items().stream().map(entity -> GenreID.from(entity.getId())).toList(),
+                this.genreRepository::findAllWithCategoriesByIdIn,
+                GenreJpaEntity::getId
         );
+        return new Pagination<>(
+                page.currentPage(),
+                page.perPage(),
+                page.total(),
+                items.stream().map(GenreJpaEntity::toAggregate).toList(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
 
-        final Specification<GenreJpaEntity> specification = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::specification)
-                .orElse(null);
-
-        final Page<GenreJpaEntity> pageResult = this.genreRepository.findAll(Specification.where(specification), page);
+    @Override
+    public Pagination<GenrePreview> findAllPreviews(final SearchQuery query) {
+        return this.paginator
+                .paginate(specification(query), query, PREVIEW)
+                .map(GenrePreviewProjection::toPreview);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+    /**
+     * Streams every stored genre in id order; see {@link JpaStreams}. The categories come in
+     * the same statement, since a streaming connection cannot run another one meanwhile.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Genre> consumer) {
+        JpaStreams.forEach(
+                this.entityManager,
+                this.entityManager.createQuery(EXPORT, GenreJpaEntity.class),
+                this.exportFetchSize,
+                entity -> consumer.accept(entity.toAggregate())
         );
     }
 
-    private Specification<GenreJpaEntity> specification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Specification<GenreJpaEntity> specification(final SearchQuery query) {
+        return Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(terms -> SpecificationUtils.<GenreJpaEntity>search(terms, "name"))
+                .orElse(null);
     }
 }
@@ -1,5 +1,8 @@
 package com.ioliveira.admin.catalogo.infrastructure.genre.persistence;
 
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDStringBinaryType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -8,10 +11,12 @@ import java.util.Objects;
 @Embeddable
 public class GenreCategoryID implements Serializable {
 
-    @Column(name = "genre_id", nullable = false)
+    @Type(type = UUIDStringBinaryType.NAME)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
 
-    @Column(name = "category_id", nullable = false)
+    @Type(type = UUIDStringBinaryType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryId;
 
     public GenreCategoryID() {
@@ -3,26 +3,33 @@ package com.ioliveira.admin.catalogo.infrastructure.genre.persistence;
 import com.ioliveira.admin.catalogo.domain.category.CategoryID;
 import com.ioliveira.admin.catalogo.domain.genre.Genre;
 import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDStringBinaryType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = UUIDStringBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -31,7 +38,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean isActive;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -43,6 +50,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public GenreJpaEntity() {
     }
 
@@ -91,6 +101,30 @@ public class GenreJpaEntity {
         );
     }
 
+    /**
+     * Copies the aggregate state onto this managed entity, touching only the category
+     * associations that were actually added or removed.
+     */
+    public GenreJpaEntity syncWith(final Genre genre) {
+        this.name = genre.getName();
+        this.isActive = genre.isActive();
+        this.updatedAt = genre.getUpdatedAt();
+        this.deletedAt = genre.getDeletedAt();
+
+        final Set<CategoryID> expected = new HashSet<>(genre.getCategories());
+        final Set<CategoryID> current = new HashSet<>(getCategoryIDs());
+
+        current.stream()
+                .filter(id -> !expected.contains(id))
+                .forEach(this::removeCategory);
+
+        expected.stream()
+                .filter(id -> !current.contains(id))
+                .forEach(this::addCategory);
+
+        return this;
+    }
+
     private void addCategory(final CategoryID id) {
         this.categories.add(GenreCategoryJpaEntity.from(this, id));
     }
@@ -105,6 +139,18 @@ public class GenreJpaEntity {
                 .toList();
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
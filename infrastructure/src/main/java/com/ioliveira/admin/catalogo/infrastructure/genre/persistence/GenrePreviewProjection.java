@@ -0,0 +1,25 @@
+package com.ioliveira.admin.catalogo.infrastructure.genre.persistence;
+
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
+
+import java.time.Instant;
+
+/**
+ * Columns of {@code genres} read by the list query. Component names follow the
+ * {@link GenreJpaEntity} attributes so any sortable attribute can be used as cursor.
+ */
+public record GenrePreviewProjection(
+        String id,
+        String name,
+        boolean isActive,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static final String[] ATTRIBUTES = {"id", "name", "isActive", "createdAt", "deletedAt"};
+
+    public GenrePreview toPreview() {
+        return new GenrePreview(GenreID.from(id()), name(), isActive(), createdAt(), deletedAt());
+    }
+}
@@ -3,9 +3,46 @@ package com.ioliveira.admin.catalogo.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    /**
+     * The distinct only drops the repeated genres of the join; it is not sent to the database.
+     */
+    @EntityGraph(attributePaths = "categories")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct g from GenreJpaEntity g where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategoriesByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Single-statement delete. The genre's category links go with it through the
+     * {@code ON DELETE CASCADE} foreign key.
+     *
+     * @return the number of rows affected
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GenreJpaEntity g where g.id = :id")
+    int deleteRowById(@Param("id") String id);
 }
@@ -0,0 +1,68 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.ioliveira.admin.catalogo.infrastructure.json.Json;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Upload formats an import accepts. Both are read one row at a time: a CSV file with a
+ * header line naming the columns, or one JSON object per line. A row that cannot be parsed
+ * is reported on its own, see {@link ImportRowReader}. The text is decoded with the charset
+ * of the content type, UTF-8 when it names none.
+ */
+public enum ImportFormat {
+
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private static final TypeReference<Map<String, String>> ROW = new TypeReference<>() {
+    };
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(ROW)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private static final ObjectReader NDJSON_READER = Json.mapper().readerFor(ROW);
+
+    private final MediaType mediaType;
+
+    ImportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ImportFormat of(final MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(contentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format: " + contentType));
+    }
+
+    public static Charset charsetOf(final MediaType contentType) {
+        return Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+    }
+
+    public ImportRowReader rows(final InputStream in, final Charset charset) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        return switch (this) {
+            case CSV -> ImportRowReader.csv(reader, CSV_READER);
+            case NDJSON -> ImportRowReader.ndjson(reader, NDJSON_READER);
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, updated by the thread running it and read by status requests on
+ * the same node; other nodes read the snapshots saved by {@link ImportJobs}.
+ * Only the first {@code maxErrors} row errors are kept, reported in row order; the counters
+ * cover every row.
+ */
+public class ImportJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final String target;
+    private final int maxErrors;
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    public ImportJob(final String id, final String target, final int maxErrors) {
+        this.id = Objects.requireNonNull(id);
+        this.target = Objects.requireNonNull(target);
+        this.maxErrors = maxErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    void start(final Instant now) {
+        this.startedAt = now;
+        this.state = State.RUNNING;
+    }
+
+    void read() {
+        this.rows.incrementAndGet();
+    }
+
+    /**
+     * Counts a row rejected before reaching the use case, e.g. a value of the wrong type.
+     */
+    void invalid(final long row, final String message) {
+        this.invalid.incrementAndGet();
+        error(row, List.of(new Error(message)));
+    }
+
+    void record(final long row, final BulkItemOutput output) {
+        switch (output.status()) {
+            case CREATED -> this.created.incrementAndGet();
+            case INVALID -> {
+                this.invalid.incrementAndGet();
+                error(row, output.errors());
+            }
+            case FAILED -> {
+                this.failed.incrementAndGet();
+                error(row, output.errors());
+            }
+        }
+    }
+
+    void complete(final Instant now) {
+        this.finishedAt = now;
+        this.state = State.COMPLETED;
+    }
+
+    void fail(final Instant now, final String message) {
+        this.failure = message;
+        this.finishedAt = now;
+        this.state = State.FAILED;
+    }
+
+    public ImportJobStatus status(final Instant now) {
+        final List<ImportRowError> snapshot;
+        synchronized (this.errors) {
+            snapshot = this.errors.stream()
+                    .sorted(Comparator.comparingLong(ImportRowError::row))
+                    .toList();
+        }
+
+        return ImportJobStatus.of(
+                this.id,
+                this.target,
+                this.state,
+                this.rows.get(),
+                this.created.get(),
+                this.invalid.get(),
+                this.failed.get(),
+                this.startedAt,
+                this.finishedAt,
+                this.failure,
+                snapshot,
+                now
+        );
+    }
+
+    private void error(final long row, final List<Error> rowErrors) {
+        synchronized (this.errors) {
+            if (this.errors.size() < this.maxErrors) {
+                this.errors.add(new ImportRowError(row, rowErrors));
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.infrastructure.imports.persistence.ImportJobJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.imports.persistence.ImportJobRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Shared store of import progress, so the status of a job can be read from any node, not
+ * only the one running it. Each save replaces the whole snapshot of the job and stamps when
+ * it was taken, which tells whether the node running the job is still alive.
+ */
+@Component
+public class ImportJobMySQLGateway {
+
+    static final String ABANDONED = "The node running the import stopped";
+
+    private final ImportJobRepository repository;
+
+    public ImportJobMySQLGateway(final ImportJobRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Transactional
+    public void save(final ImportJobStatus status, final Instant now) {
+        this.repository.save(ImportJobJpaEntity.from(status, now));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ImportJobStatus> findById(final String id, final Instant now) {
+        return this.repository.findById(id).map(entity -> entity.toStatus(now));
+    }
+
+    @Transactional
+    public void deleteById(final String id) {
+        if (this.repository.existsById(id)) {
+            this.repository.deleteById(id);
+        }
+    }
+
+    /**
+     * Fails the queued and running jobs last saved before the given instant, finishing them
+     * now so they are purged after the retention like any other.
+     *
+     * @return the number of jobs failed
+     */
+    public int failAbandoned(final Instant before, final Instant now) {
+        return this.repository.failUnfinishedBefore(before, now, ImportJob.State.FAILED, ABANDONED);
+    }
+
+    public int deleteFinishedBefore(final Instant before) {
+        return this.repository.deleteFinishedBefore(before);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Snapshot of an {@link ImportJob}. {@code rows} counts every row read so far, whatever its
+ * outcome; {@code rowsPerSecond} is measured from the start until now or the end of the job.
+ */
+public record ImportJobStatus(
+        String id,
+        String target,
+        ImportJob.State state,
+        long rows,
+        long created,
+        long invalid,
+        long failed,
+        double rowsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String failure,
+        List<ImportRowError> errors
+) {
+
+    public static ImportJobStatus of(
+            final String id,
+            final String target,
+            final ImportJob.State state,
+            final long rows,
+            final long created,
+            final long invalid,
+            final long failed,
+            final Instant startedAt,
+            final Instant finishedAt,
+            final String failure,
+            final List<ImportRowError> errors,
+            final Instant now) {
+
+        double rowsPerSecond = 0;
+        if (startedAt != null) {
+            final long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : now).toMillis();
+            rowsPerSecond = millis > 0 ? rows * 1000.0 / millis : 0;
+        }
+
+        return new ImportJobStatus(
+                id,
+                target,
+                state,
+                rows,
+                created,
+                invalid,
+                failed,
+                rowsPerSecond,
+                startedAt,
+                finishedAt,
+                failure,
+                errors
+        );
+    }
+}
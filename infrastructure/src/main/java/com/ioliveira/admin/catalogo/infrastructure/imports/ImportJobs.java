@@ -0,0 +1,295 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs imports in the background and keeps their progress until {@code retention} after they
+ * finish. The upload is spooled to a temporary file so the request returns right away; the
+ * job then reads it row by row and hands the target's bulk use case {@code chunkSize} rows at
+ * a time. Each call persists its chunk in its own transaction, so the persistence context is
+ * cleared after every chunk and memory stays bounded by the chunk size, whatever the file size.
+ * A row that cannot be parsed is counted as invalid and the import goes on.
+ * <p>
+ * The chunk size may not exceed {@code maxItems}, the most a bulk use case accepts at once,
+ * or every full chunk would be rejected; construction fails instead.
+ * <p>
+ * At most {@code maxConcurrent} imports run at once and {@code maxQueued} wait; past that,
+ * {@link #submit} throws {@link RejectedExecutionException} before the upload is read.
+ * <p>
+ * A snapshot of each job is saved when it is queued, started and finished, after every chunk
+ * and on every {@link #heartbeat}, so any node can answer its status. The node running a job
+ * answers from memory. An unfinished job whose snapshot is older than {@code staleAfter} lost
+ * its node and is marked failed by the next heartbeat of any node, then purged like any other
+ * finished job.
+ */
+public class ImportJobs implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportJobs.class);
+
+    private final ImportJobMySQLGateway gateway;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Duration retention;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobs(
+            final ImportJobMySQLGateway gateway,
+            final int chunkSize,
+            final int maxItems,
+            final int maxConcurrent,
+            final int maxQueued,
+            final int maxErrors,
+            final Duration retention,
+            final Duration staleAfter,
+            final Clock clock) {
+
+        if (chunkSize > maxItems) {
+            throw new IllegalArgumentException(
+                    "The import chunk size %d exceeds the %d items a bulk request accepts".formatted(chunkSize, maxItems));
+        }
+
+        this.gateway = Objects.requireNonNull(gateway);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.retention = Objects.requireNonNull(retention);
+        this.staleAfter = Objects.requireNonNull(staleAfter);
+        this.clock = Objects.requireNonNull(clock);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "import-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrent,
+                maxConcurrent,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "import-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * Schedules the {@link #heartbeat}, which has to run more often than {@code staleAfter} or
+     * the jobs of this node would be taken for abandoned.
+     */
+    public void start(final Duration interval) {
+        if (interval.compareTo(this.staleAfter) >= 0) {
+            throw new IllegalArgumentException(
+                    "The import heartbeat %s must be shorter than the stale period %s".formatted(interval, this.staleAfter));
+        }
+        this.scheduler.scheduleWithFixedDelay(this::heartbeatQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public <C> ImportJobStatus submit(
+            final ImportTarget<C> target,
+            final ImportFormat format,
+            final Charset charset,
+            final InputStream upload) {
+
+        // Checked again by execute, but a full queue should not cost a copy of the upload.
+        if (this.executor.getQueue().remainingCapacity() == 0) {
+            throw new RejectedExecutionException("Too many imports queued");
+        }
+
+        final ImportJob job = new ImportJob(UUID.randomUUID().toString(), target.name(), this.maxErrors);
+        final Path file = spool(upload);
+
+        this.jobs.put(job.getId(), job);
+        final Instant now = this.clock.instant();
+        final ImportJobStatus status = job.status(now);
+        this.gateway.save(status, now);
+        try {
+            this.executor.execute(() -> run(job, target, format, charset, file));
+        } catch (final RejectedExecutionException e) {
+            this.jobs.remove(job.getId());
+            this.gateway.deleteById(job.getId());
+            delete(file);
+            throw e;
+        }
+        return status;
+    }
+
+    public Optional<ImportJobStatus> status(final String id) {
+        final Instant now = this.clock.instant();
+        final ImportJob job = this.jobs.get(id);
+        return job != null
+                ? Optional.of(job.status(now))
+                : this.gateway.findById(id, now);
+    }
+
+    /**
+     * Saves the jobs this node runs or queues, so other nodes see they are alive, fails the
+     * unfinished jobs no node saved for {@code staleAfter} and deletes the ones finished more
+     * than {@code retention} ago.
+     */
+    public void heartbeat() {
+        this.jobs.values().forEach(this::save);
+
+        final Instant now = this.clock.instant();
+        final int abandoned = this.gateway.failAbandoned(now.minus(this.staleAfter), now);
+        if (abandoned > 0) {
+            LOG.warn("Marked {} imports as failed, no node saved their progress for {}", abandoned, this.staleAfter);
+        }
+        this.gateway.deleteFinishedBefore(now.minus(this.retention));
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <C> void run(
+            final ImportJob job,
+            final ImportTarget<C> target,
+            final ImportFormat format,
+            final Charset charset,
+            final Path file) {
+
+        job.start(this.clock.instant());
+        save(job);
+
+        long row = 0;
+        try (final InputStream in = Files.newInputStream(file);
+             final ImportRowReader rows = format.rows(in, charset)) {
+
+            final List<C> commands = new ArrayList<>(this.chunkSize);
+            final List<Long> numbers = new ArrayList<>(this.chunkSize);
+
+            while (rows.next()) {
+                job.read();
+                row++;
+
+                try {
+                    commands.add(target.row().apply(rows.values()));
+                    numbers.add(row);
+                } catch (final JsonProcessingException e) {
+                    job.invalid(row, "Could not read the row: " + e.getOriginalMessage());
+                } catch (final IllegalArgumentException e) {
+                    job.invalid(row, e.getMessage());
+                }
+
+                if (commands.size() == this.chunkSize) {
+                    create(job, target, commands, numbers);
+                    save(job);
+                }
+            }
+            create(job, target, commands, numbers);
+
+            job.complete(this.clock.instant());
+        } catch (final Exception e) {
+            LOG.warn("Import {} failed after {} rows", job.getId(), row, e);
+            job.fail(this.clock.instant(), e.getMessage());
+        } finally {
+            delete(file);
+            save(job);
+            this.jobs.remove(job.getId());
+        }
+    }
+
+    /**
+     * A lost snapshot only delays what other nodes see, so it does not stop the import. Saves
+     * of one job are serialized, so a heartbeat cannot overwrite a newer snapshot with the
+     * one it read before.
+     */
+    private void save(final ImportJob job) {
+        try {
+            synchronized (job) {
+                final Instant now = this.clock.instant();
+                this.gateway.save(job.status(now), now);
+            }
+        } catch (final RuntimeException e) {
+            LOG.warn("Could not save the progress of import {}", job.getId(), e);
+        }
+    }
+
+    private void heartbeatQuietly() {
+        try {
+            heartbeat();
+        } catch (final RuntimeException e) {
+            LOG.warn("Could not run the import heartbeat", e);
+        }
+    }
+
+    private static <C> void create(
+            final ImportJob job,
+            final ImportTarget<C> target,
+            final List<C> commands,
+            final List<Long> numbers) {
+
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        for (final BulkItemOutput output : target.create().apply(List.copyOf(commands))) {
+            job.record(numbers.get(output.index()), output);
+        }
+        commands.clear();
+        numbers.clear();
+    }
+
+    private static Path spool(final InputStream upload) {
+        try {
+            final Path file = Files.createTempFile("import-", ".tmp");
+            Files.copy(upload, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOG.warn("Could not delete import file {}", file, e);
+        }
+    }
+}
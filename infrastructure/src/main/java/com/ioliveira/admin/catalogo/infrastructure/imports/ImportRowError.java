@@ -0,0 +1,14 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * Why a row was not imported. Rows are numbered from 1, not counting a CSV header.
+ */
+public record ImportRowError(
+        long row,
+        List<Error> errors
+) {
+}
@@ -0,0 +1,89 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Splits an upload into records and parses each one on its own, so a malformed row is
+ * rejected alone and the rows after it are still read. A record is one line, or several when
+ * a quoted CSV value spans them. Empty lines are skipped, and so are blank ones outside CSV,
+ * where a space is a value.
+ * <p>
+ * A CSV record is parsed behind the header line, so it is mapped to the columns the header
+ * names however malformed the records before it were.
+ */
+public class ImportRowReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final ObjectReader parser;
+    private final boolean csv;
+    private final String prefix;
+    private String record;
+
+    private ImportRowReader(final BufferedReader reader, final ObjectReader parser, final boolean csv) throws IOException {
+        this.reader = reader;
+        this.parser = parser;
+        this.csv = csv;
+        this.prefix = csv ? nextRecord() + "\n" : "";
+    }
+
+    static ImportRowReader csv(final BufferedReader reader, final ObjectReader parser) throws IOException {
+        return new ImportRowReader(reader, parser, true);
+    }
+
+    static ImportRowReader ndjson(final BufferedReader reader, final ObjectReader parser) throws IOException {
+        return new ImportRowReader(reader, parser, false);
+    }
+
+    /**
+     * Moves to the next record, returning false at the end of the upload.
+     */
+    public boolean next() throws IOException {
+        this.record = nextRecord();
+        return this.record != null;
+    }
+
+    /**
+     * Parses the current record, throwing a {@link com.fasterxml.jackson.core.JsonProcessingException}
+     * when it is malformed.
+     */
+    public Map<String, String> values() throws IOException {
+        return this.parser.readValue(this.prefix + this.record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private String nextRecord() throws IOException {
+        String line;
+        do {
+            line = this.reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (this.csv ? line.isEmpty() : line.isBlank());
+
+        if (!this.csv) {
+            return line;
+        }
+
+        // An odd number of quotes leaves a value open; doubled quotes inside a value keep the count even.
+        final StringBuilder builder = new StringBuilder(line);
+        long quotes = count(line);
+        while (quotes % 2 != 0 && (line = this.reader.readLine()) != null) {
+            builder.append('\n').append(line);
+            quotes += count(line);
+        }
+        return builder.toString();
+    }
+
+    private static long count(final String line) {
+        return line.chars().filter(c -> c == '"').count();
+    }
+}
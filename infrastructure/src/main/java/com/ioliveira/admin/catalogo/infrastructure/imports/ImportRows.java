@@ -0,0 +1,57 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
+import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts imported rows into create commands. Columns are named like the fields of the
+ * create requests; a missing or empty {@code active} means active. Everything else is left
+ * to the aggregate validators.
+ */
+public final class ImportRows {
+
+    private ImportRows() {
+    }
+
+    public static CreateCategoryCommand category(final Map<String, String> row) {
+        return CreateCategoryCommand.with(
+                row.get("name"),
+                row.get("description"),
+                active(row.get("active"))
+        );
+    }
+
+    public static CreateCastMemberCommand castMember(final Map<String, String> row) {
+        return CreateCastMemberCommand.with(
+                row.get("name"),
+                type(row.get("type"))
+        );
+    }
+
+    private static boolean active(final String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("'active' should be true or false");
+        };
+    }
+
+    private static CastMemberType type(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(CastMemberType.values())
+                .filter(type -> type.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("'type' should be one of "
+                        + Arrays.toString(CastMemberType.values())));
+    }
+}
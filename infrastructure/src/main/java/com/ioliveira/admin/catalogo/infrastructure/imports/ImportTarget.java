@@ -0,0 +1,19 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * What an import creates: how a row becomes a command, and the bulk use case that validates
+ * and persists a chunk of commands. The row function throws {@link IllegalArgumentException}
+ * for a value it cannot convert, which rejects that row only.
+ */
+public record ImportTarget<C>(
+        String name,
+        Function<Map<String, String>, C> row,
+        Function<List<C>, List<BulkItemOutput>> create
+) {
+}
@@ -0,0 +1,123 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports.persistence;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJob;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobStatus;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportRowError;
+import com.ioliveira.admin.catalogo.infrastructure.json.Json;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Last saved progress of an import, stamped with when it was saved. The row errors are kept
+ * as one JSON array, since they are only ever read back whole.
+ */
+@Entity
+@Table(name = "import_job")
+public class ImportJobJpaEntity {
+
+    private static final int MAX_FAILURE_LENGTH = 4000;
+
+    private static final ObjectReader ERRORS_READER = Json.mapper().readerForListOf(ImportRowError.class);
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "target", nullable = false, length = 32)
+    private String target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 16)
+    private ImportJob.State state;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rows;
+
+    @Column(name = "created", nullable = false)
+    private long created;
+
+    @Column(name = "invalid", nullable = false)
+    private long invalid;
+
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    @Column(name = "started_at", columnDefinition = "DATETIME(6)")
+    private Instant startedAt;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME(6)")
+    private Instant finishedAt;
+
+    @Column(name = "failure", length = MAX_FAILURE_LENGTH)
+    private String failure;
+
+    @Column(name = "errors", nullable = false, columnDefinition = "LONGTEXT")
+    private String errors;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public ImportJobJpaEntity() {
+    }
+
+    public static ImportJobJpaEntity from(final ImportJobStatus status, final Instant updatedAt) {
+        final ImportJobJpaEntity entity = new ImportJobJpaEntity();
+        entity.id = status.id();
+        entity.target = status.target();
+        entity.state = status.state();
+        entity.rows = status.rows();
+        entity.created = status.created();
+        entity.invalid = status.invalid();
+        entity.failed = status.failed();
+        entity.startedAt = status.startedAt();
+        entity.finishedAt = status.finishedAt();
+        entity.failure = truncate(status.failure());
+        entity.errors = Json.writeValueAsString(status.errors());
+        entity.updatedAt = updatedAt;
+        return entity;
+    }
+
+    public ImportJobStatus toStatus(final Instant now) {
+        final List<ImportRowError> rowErrors;
+        try {
+            rowErrors = ERRORS_READER.readValue(this.errors);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ImportJobStatus.of(
+                this.id,
+                this.target,
+                this.state,
+                this.rows,
+                this.created,
+                this.invalid,
+                this.failed,
+                this.startedAt,
+                this.finishedAt,
+                this.failure,
+                rowErrors,
+                now
+        );
+    }
+
+    private static String truncate(final String message) {
+        return message != null && message.length() > MAX_FAILURE_LENGTH
+                ? message.substring(0, MAX_FAILURE_LENGTH)
+                : message;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
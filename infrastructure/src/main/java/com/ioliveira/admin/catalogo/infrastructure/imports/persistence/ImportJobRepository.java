@@ -0,0 +1,31 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports.persistence;
+
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface ImportJobRepository extends JpaRepository<ImportJobJpaEntity, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ImportJobJpaEntity j
+            set j.state = :state, j.finishedAt = :now, j.updatedAt = :now, j.failure = :failure
+            where j.finishedAt is null and j.updatedAt < :before
+            """)
+    int failUnfinishedBefore(
+            @Param("before") Instant before,
+            @Param("now") Instant now,
+            @Param("state") ImportJob.State state,
+            @Param("failure") String failure);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ImportJobJpaEntity j where j.finishedAt < :before")
+    int deleteFinishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,74 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.infrastructure.json.Json;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position: the sort key value and the id of the last row of a page.
+ * The id works as a tiebreaker, so rows sharing the same sort value are never skipped or repeated.
+ */
+public record Cursor(
+        String sort,
+        String direction,
+        String value,
+        String id
+) {
+
+    public static Cursor after(final Object entity, final String id, final SearchQuery query) {
+        final Object value = PropertyAccessorFactory
+                .forDirectFieldAccess(entity)
+                .getPropertyValue(query.sort());
+
+        return new Cursor(query.sort(), query.direction(), value != null ? value.toString() : null, id);
+    }
+
+    public static Cursor decode(final String token) {
+        try {
+            final byte[] json = Base64.getUrlDecoder().decode(token);
+            final Cursor cursor = Json.readValue(new String(json, StandardCharsets.UTF_8), Cursor.class);
+            if (cursor == null || cursor.sort() == null || cursor.direction() == null || cursor.id() == null) {
+                throw invalid();
+            }
+            return cursor;
+        } catch (final DomainException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        final byte[] json = Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    public Cursor matching(final SearchQuery query) {
+        if (!Objects.equals(sort(), query.sort()) || !direction().equalsIgnoreCase(query.direction())) {
+            throw DomainException.with(new Error("'cursor' does not match the requested sort"));
+        }
+        return this;
+    }
+
+    public Object valueAs(final Class<?> type) {
+        if (value() == null) {
+            return null;
+        }
+        if (Instant.class.equals(type)) {
+            return Instant.parse(value());
+        }
+        return DefaultConversionService.getSharedInstance().convert(value(), type);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
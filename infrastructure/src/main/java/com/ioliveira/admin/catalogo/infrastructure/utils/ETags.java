@@ -0,0 +1,79 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Strong entity tags for the read endpoints, so a client revalidating an unchanged
+ * resource gets a {@code 304 Not Modified} without the body being presented or serialized.
+ */
+public final class ETags {
+
+    private static final int PAGE_DIGEST_BYTES = 16;
+    private static final int MEMBERS_DIGEST_BYTES = 8;
+
+    private ETags() {
+    }
+
+    /**
+     * Tag of a single aggregate: every write bumps {@code updatedAt}, so the pair
+     * identifies one version of the resource.
+     */
+    public static String of(final String id, final Instant updatedAt) {
+        return "\"%s-%x\"".formatted(id, ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt));
+    }
+
+    /**
+     * Tag of an aggregate whose associations can change without bumping its
+     * {@code updatedAt}, e.g. a genre losing a category deleted through a cascade. The ids of
+     * the associated aggregates are digested in sorted order and appended to the tag.
+     */
+    public static String of(final String id, final Instant updatedAt, final Collection<String> memberIds) {
+        final byte[] digest = sha256(String.join(",", new TreeSet<>(memberIds)));
+        return "\"%s-%x-%s\"".formatted(
+                id,
+                ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt),
+                HexFormat.of().formatHex(digest, 0, MEMBERS_DIGEST_BYTES)
+        );
+    }
+
+    /**
+     * Tag of a page, digested from its items and paging metadata. The list outputs and
+     * responses are records of plain values, so their text form is stable across instances.
+     */
+    public static String of(final Pagination<?> page) {
+        final byte[] digest = sha256(page.toString());
+        return "\"" + HexFormat.of().formatHex(digest, 0, PAGE_DIGEST_BYTES) + "\"";
+    }
+
+    public static <T> ResponseEntity<T> conditional(
+            final WebRequest request,
+            final String etag,
+            final Supplier<T> body
+    ) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    private static byte[] sha256(final String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.ioliveira.admin.catalogo.domain.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lookups by a list of ids, split into IN lists of at most {@link #CHUNK_SIZE} ids.
+ */
+public final class InClauses {
+
+    /**
+     * Upper bound for a single IN list. Combined with Hibernate's in-clause padding, every
+     * lookup maps to one of a handful of statement shapes.
+     */
+    public static final int CHUNK_SIZE = 512;
+
+    private InClauses() {
+    }
+
+    public static <T> List<List<T>> chunks(final List<T> values) {
+        final List<List<T>> chunks = new ArrayList<>(values.size() / CHUNK_SIZE + 1);
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Runs the query once per chunk of the distinct, valid ids and returns the rows in the
+     * order their ids were given. Ids without a row are left out. Ids are compared in their
+     * {@link UUIDs#normalize normalized} form, so the case they were asked in does not matter.
+     */
+    public static <T> List<T> findAllInOrder(
+            final List<? extends Identifier> ids,
+            final Function<List<String>, List<T>> query,
+            final Function<T, String> idOf
+    ) {
+        final List<String> values = ids.stream()
+                .map(Identifier::getValue)
+                .filter(UUIDs::isValid)
+                .map(UUIDs::normalize)
+                .distinct()
+                .toList();
+
+        final Map<String, T> rows = new HashMap<>(values.size());
+        for (final List<String> chunk : chunks(values)) {
+            query.apply(chunk).forEach(row -> rows.put(UUIDs.normalize(idOf.apply(row)), row));
+        }
+
+        return values.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import org.hibernate.CacheMode;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * Walks the results of a query through a forward-only cursor. Each entity is detached once the
+ * consumer returns, so the persistence context stays empty however many rows there are. The
+ * entities are read-only and bypass the second-level cache.
+ * <p>
+ * MySQL's driver only streams when the fetch size is {@link Integer#MIN_VALUE}; with any other
+ * value it reads the whole result set first. While streaming, the connection cannot run another
+ * statement, so whatever the consumer needs must come in the same query. A query fetching a
+ * collection must order by the root entity id.
+ */
+public final class JpaStreams {
+
+    private JpaStreams() {
+    }
+
+    public static <T> void forEach(
+            final EntityManager entityManager,
+            final TypedQuery<T> query,
+            final int fetchSize,
+            final Consumer<T> consumer
+    ) {
+        query.setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READONLY, true)
+                .setHint(HINT_CACHE_MODE, CacheMode.IGNORE);
+
+        try (final Stream<T> entities = query.getResultStream()) {
+            entities.forEach(entity -> {
+                consumer.accept(entity);
+                entityManager.detach(entity);
+            });
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ioliveira.admin.catalogo.infrastructure.json.Json;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Newline-delimited JSON responses written while the source produces the values. Nothing is
+ * collected: each value goes through the generator's buffer, which is flushed to the client
+ * whenever it fills up rather than after every value.
+ */
+public final class NdJson {
+
+    private static final ObjectMapper MAPPER = Json.mapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private NdJson() {
+    }
+
+    /**
+     * @param source called once, on the async request thread, with the consumer that writes each value
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> source) {
+        final StreamingResponseBody body = out -> {
+            try (final JsonGenerator generator = MAPPER.createGenerator(out)) {
+                source.accept(value -> write(generator, value));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void write(final JsonGenerator generator, final Object value) {
+        try {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one: the first caller runs the call
+ * and every caller that arrives while it is in flight waits for and receives the same
+ * result, or the same exception. Nothing is kept once the call completes.
+ * <p>
+ * Calls are published as the {@code gateway.calls} counter, and those answered by another
+ * caller's call as {@code gateway.calls.collapsed}, both tagged with the gateway and operation.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    public SingleFlight(final String gateway, final String operation, final MeterRegistry meterRegistry) {
+        if (meterRegistry != null) {
+            FunctionCounter.builder("gateway.calls", this.calls, AtomicLong::get)
+                    .tags("gateway", gateway, "operation", operation)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.calls.collapsed", this.collapsed, AtomicLong::get)
+                    .tags("gateway", gateway, "operation", operation)
+                    .register(meterRegistry);
+        }
+    }
+
+    public V run(final K key, final Supplier<V> call) {
+        this.calls.incrementAndGet();
+
+        final CompletableFuture<V> mine = new CompletableFuture<>();
+        final CompletableFuture<V> running = this.inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            this.collapsed.incrementAndGet();
+            return await(running);
+        }
+
+        try {
+            final V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, mine);
+        }
+    }
+
+    public long calls() {
+        return this.calls.get();
+    }
+
+    public long collapsed() {
+        return this.collapsed.get();
+    }
+
+    private static <V> V await(final CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * Sort keys accepted by a list query, each one an entity attribute backed by a
+ * {@code (column, id)} index. The first key is the default; any other key is rejected
+ * rather than turned into an ORDER BY that MySQL can only satisfy with a filesort.
+ */
+public record SortableFields(List<String> keys) {
+
+    public SortableFields {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("'keys' must not be empty");
+        }
+        keys = List.copyOf(keys);
+    }
+
+    public static SortableFields of(final String... keys) {
+        return new SortableFields(List.of(keys));
+    }
+
+    public SearchQuery resolve(final SearchQuery query) {
+        if (query.sort() == null || query.sort().isBlank()) {
+            return withSort(query, keys().get(0));
+        }
+        if (!keys().contains(query.sort())) {
+            throw DomainException.with(new Error("'sort' must be one of %s".formatted(String.join(", ", keys()))));
+        }
+        return query;
+    }
+
+    private static SearchQuery withSort(final SearchQuery query, final String sort) {
+        return new SearchQuery(
+                query.page(),
+                query.perPage(),
+                query.terms(),
+                sort,
+                query.direction(),
+                query.cursor(),
+                query.total()
+        );
+    }
+}
@@ -0,0 +1,217 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs the list queries of the MySQL gateways either by offset ({@link SearchQuery#page()})
+ * or by keyset ({@link SearchQuery#cursor()}). Keyset pages seek straight to the cursor
+ * position instead of scanning and discarding every previous row.
+ * <p>
+ * The total follows {@link SearchQuery#total()}: {@link TotalMode#NONE} skips the
+ * {@code COUNT(*)} and only looks one row ahead to fill {@code hasNext}, while
+ * {@link TotalMode#ESTIMATED} reuses the last count of the same search terms until
+ * it is older than the configured TTL. At most {@value #MAX_COUNTS} counts are kept, and the
+ * gateway drops them all through {@link #invalidateCounts()} whenever it writes.
+ * <p>
+ * Rows are read as entities by default, or through a {@link Projection} when only a few
+ * columns are needed. Only the {@link SortableFields} of the aggregate can be sorted on.
+ */
+public class SpecificationPaginator<T> {
+
+    private static final String ID = "id";
+    private static final Duration DEFAULT_COUNT_TTL = Duration.ofSeconds(30);
+    private static final long MAX_COUNTS = 1_000;
+
+    private final EntityManager entityManager;
+    private final JpaSpecificationExecutor<T> repository;
+    private final Class<T> entityClass;
+    private final Projection<T> entityProjection;
+    private final SortableFields sortableFields;
+    private final Cache<String, Long> counts;
+
+    public SpecificationPaginator(
+            final EntityManager entityManager,
+            final JpaSpecificationExecutor<T> repository,
+            final Class<T> entityClass,
+            final Function<T, String> idExtractor,
+            final SortableFields sortableFields) {
+
+        this(entityManager, repository, entityClass, idExtractor, sortableFields, DEFAULT_COUNT_TTL);
+    }
+
+    public SpecificationPaginator(
+            final EntityManager entityManager,
+            final JpaSpecificationExecutor<T> repository,
+            final Class<T> entityClass,
+            final Function<T, String> idExtractor,
+            final SortableFields sortableFields,
+            final Duration countTtl) {
+
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.repository = Objects.requireNonNull(repository);
+        this.entityClass = Objects.requireNonNull(entityClass);
+        this.entityProjection = new Projection<>(entityClass, Objects.requireNonNull(idExtractor), List.of());
+        this.sortableFields = Objects.requireNonNull(sortableFields);
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(MAX_COUNTS)
+                .expireAfterWrite(Objects.requireNonNull(countTtl))
+                .build();
+    }
+
+    public void invalidateCounts() {
+        this.counts.invalidateAll();
+    }
+
+    public Pagination<T> paginate(final Specification<T> whereClause, final SearchQuery query) {
+        return paginate(whereClause, query, this.entityProjection);
+    }
+
+    public <R> Pagination<R> paginate(
+            final Specification<T> whereClause,
+            final SearchQuery searchQuery,
+            final Projection<R> projection) {
+
+        final SearchQuery query = this.sortableFields.resolve(searchQuery);
+        final Sort.Direction direction = Sort.Direction.fromString(query.direction());
+        final Sort sort = Sort.by(direction, query.sort()).and(Sort.by(direction, ID));
+        final Specification<T> where = Specification.where(whereClause);
+
+        final Rows<R> rows = query.hasCursor()
+                ? fetch(where.and(after(query)), sort, projection, 0, query.perPage() + 1, false)
+                : fetch(where, sort, projection, query.page() * query.perPage(), query.perPage() + 1, true);
+
+        final boolean hasNext = rows.values().size() > query.perPage();
+        final List<R> items = hasNext ? rows.values().subList(0, query.perPage()) : rows.values();
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total(where, query),
+                items,
+                hasNext && !rows.ranked() ? nextCursor(items, projection, query) : null,
+                hasNext
+        );
+    }
+
+    private Specification<T> after(final SearchQuery query) {
+        return SpecificationUtils.after(Cursor.decode(query.cursor()).matching(query));
+    }
+
+    private long total(final Specification<T> whereClause, final SearchQuery query) {
+        return switch (query.total()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATED -> estimate(whereClause, query);
+            case EXACT -> count(whereClause, query);
+        };
+    }
+
+    private long estimate(final Specification<T> whereClause, final SearchQuery query) {
+        final Long cached = this.counts.getIfPresent(countKey(query));
+        return cached != null ? cached : count(whereClause, query);
+    }
+
+    private long count(final Specification<T> whereClause, final SearchQuery query) {
+        final long total = this.repository.count(whereClause);
+        this.counts.put(countKey(query), total);
+        return total;
+    }
+
+    private static String countKey(final SearchQuery query) {
+        return query.terms() == null ? "" : query.terms().trim().toUpperCase();
+    }
+
+    /**
+     * Orders by the requested sort and id. On offset pages, an ordering added by the
+     * specification (e.g. search relevance) comes first and the rows are marked as ranked,
+     * since such an order cannot be resumed from a cursor.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R> Rows<R> fetch(
+            final Specification<T> whereClause,
+            final Sort sort,
+            final Projection<R> projection,
+            final int offset,
+            final int limit,
+            final boolean keepSpecificationOrder) {
+
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> criteria = cb.createQuery(projection.type());
+        final Root<T> root = criteria.from(this.entityClass);
+
+        final Predicate predicate = whereClause.toPredicate(root, criteria, cb);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+
+        final List<Order> orders = new ArrayList<>();
+        if (keepSpecificationOrder) {
+            orders.addAll(criteria.getOrderList());
+        }
+        final boolean ranked = !orders.isEmpty();
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+
+        final Selection<R> selection = projection.attributes().isEmpty()
+                ? (Selection<R>) root
+                : cb.construct(projection.type(), projection.attributes().stream()
+                        .map(root::get)
+                        .toArray(Selection[]::new));
+
+        criteria.select(selection).orderBy(orders);
+
+        final List<R> values = this.entityManager
+                .createQuery(criteria)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return new Rows<>(values, ranked);
+    }
+
+    private <R> String nextCursor(final List<R> items, final Projection<R> projection, final SearchQuery query) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        final R last = items.get(items.size() - 1);
+        return Cursor.after(last, projection.idExtractor().apply(last), query).encode();
+    }
+
+    /**
+     * Reads only the given entity attributes into {@code type} through its constructor,
+     * in the same order. The sortable attributes must be among them so the next cursor
+     * can be built from the last row.
+     */
+    public record Projection<R>(Class<R> type, Function<R, String> idExtractor, List<String> attributes) {
+
+        public static <R> Projection<R> of(
+                final Class<R> type,
+                final Function<R, String> idExtractor,
+                final String... attributes) {
+
+            return new Projection<>(type, idExtractor, List.of(attributes));
+        }
+    }
+
+    private record Rows<R>(List<R> values, boolean ranked) {
+    }
+}
@@ -1,8 +1,26 @@
 package com.ioliveira.admin.catalogo.infrastructure.utils;
 
+import com.ioliveira.admin.catalogo.infrastructure.configuration.dialect.MatchAgainstFunction;
+import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public final class SpecificationUtils {
+
+    /**
+     * Shorter words are not indexed by InnoDB FULLTEXT ({@code innodb_ft_min_token_size}).
+     */
+    private static final int FULLTEXT_MIN_TOKEN_SIZE = 3;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
     private SpecificationUtils() {
     }
 
@@ -10,4 +28,81 @@ public final class SpecificationUtils {
         return (root, query1, cb) ->
                 cb.like(cb.upper(root.get(attributeName)), "%" + term.toUpperCase() + "%");
     }
+
+    /**
+     * Searches the terms over the attributes, which must be exactly the columns of a FULLTEXT index.
+     * Uses {@code MATCH ... AGAINST} in boolean mode, every word as a required prefix, and orders
+     * the rows by relevance. Falls back to {@link #like(String, String)} over each attribute when
+     * the dialect has no FULLTEXT support (e.g. H2) or when every word is too short to be indexed.
+     */
+    public static <T> Specification<T> search(final String terms, final String... attributeNames) {
+        return (root, query, cb) -> {
+            final String againstTerms = booleanModeTerms(terms);
+
+            if (againstTerms == null || !supportsFullText(cb)) {
+                return cb.or(Arrays.stream(attributeNames)
+                        .map(attribute -> SpecificationUtils.<T>like(attribute, terms).toPredicate(root, query, cb))
+                        .toArray(Predicate[]::new));
+            }
+
+            final Expression<?>[] arguments = Stream.concat(
+                    Arrays.stream(attributeNames).map(root::get),
+                    Stream.of(cb.literal(againstTerms))
+            ).toArray(Expression[]::new);
+
+            final Expression<Double> relevance = cb.function(MatchAgainstFunction.NAME, Double.class, arguments);
+
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(relevance));
+            }
+            return cb.greaterThan(relevance, 0d);
+        };
+    }
+
+    private static String booleanModeTerms(final String terms) {
+        final String words = Arrays.stream(terms.trim().split("\\s+"))
+                .map(word -> word.replaceAll(BOOLEAN_MODE_OPERATORS, ""))
+                .filter(word -> word.length() >= FULLTEXT_MIN_TOKEN_SIZE)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return words.isEmpty() ? null : words;
+    }
+
+    private static boolean supportsFullText(final CriteriaBuilder cb) {
+        return cb instanceof CriteriaBuilderImpl impl
+                && impl.getEntityManagerFactory()
+                .getSqlFunctionRegistry()
+                .findSQLFunction(MatchAgainstFunction.NAME) != null;
+    }
+
+    /**
+     * Keyset predicate for the rows that come after the cursor, following the same
+     * ordering used by the list queries: sort key first, then id. NULL sort values
+     * are placed first on ascending and last on descending order, as MySQL does.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final Cursor cursor) {
+        return (root, query1, cb) -> {
+            final Path<Comparable> sortPath = root.get(cursor.sort());
+            final Path<String> idPath = root.get("id");
+            final Comparable value = (Comparable) cursor.valueAs(sortPath.getJavaType());
+            final boolean ascending = Sort.Direction.fromString(cursor.direction()).isAscending();
+
+            if (value == null) {
+                return ascending
+                        ? cb.or(cb.and(cb.isNull(sortPath), cb.greaterThan(idPath, cursor.id())), cb.isNotNull(sortPath))
+                        : cb.and(cb.isNull(sortPath), cb.lessThan(idPath, cursor.id()));
+            }
+
+            return ascending
+                    ? cb.or(
+                    cb.greaterThan(sortPath, value),
+                    cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, cursor.id())))
+                    : cb.or(
+                    cb.lessThan(sortPath, value),
+                    cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, cursor.id())),
+                    cb.isNull(sortPath));
+        };
+    }
 }
@@ -0,0 +1,74 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+/**
+ * Maps a {@code String} attribute holding a UUID to a {@code BINARY(16)} column, so the
+ * persistence model keeps the string ids of the domain while the tables and indexes store
+ * 16 bytes instead of 36 characters. A Hibernate type is used instead of a JPA
+ * {@code AttributeConverter} because converters are not applied to {@code @Id} attributes.
+ */
+public class UUIDStringBinaryType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "com.ioliveira.admin.catalogo.infrastructure.utils.UUIDStringBinaryType";
+
+    public UUIDStringBinaryType() {
+        super(BinaryTypeDescriptor.INSTANCE, UUIDStringDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "uuid-string-binary";
+    }
+
+    private static class UUIDStringDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final UUIDStringDescriptor INSTANCE = new UUIDStringDescriptor();
+
+        private UUIDStringDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String value) {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) UUIDs.toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return UUIDs.fromBytes(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Conversions between the canonical string form of the aggregate identifiers and
+ * the 16 bytes stored in the {@code BINARY(16)} id columns.
+ */
+public final class UUIDs {
+
+    private static final Pattern CANONICAL =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private UUIDs() {
+    }
+
+    public static boolean isValid(final String value) {
+        return value != null && CANONICAL.matcher(value).matches();
+    }
+
+    /**
+     * The lower-case form, which is how ids are read back from the {@code BINARY(16)} columns.
+     */
+    public static String normalize(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    public static byte[] toBytes(final String value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("'%s' is not a valid UUID".formatted(value));
+        }
+        final UUID uuid = UUID.fromString(value);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] value) {
+        if (value.length != 16) {
+            throw new IllegalArgumentException("A binary UUID must have 16 bytes, got %d".formatted(value.length));
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,9 @@
+DROP INDEX idx_cast_members_type ON cast_members;
+DROP INDEX idx_cast_members_created_at ON cast_members;
+DROP INDEX idx_cast_members_name ON cast_members;
+
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_genres_name ON genres;
+
+DROP INDEX idx_category_created_at ON category;
+DROP INDEX idx_category_name ON category;
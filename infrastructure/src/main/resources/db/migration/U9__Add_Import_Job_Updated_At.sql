@@ -0,0 +1,3 @@
+DROP INDEX idx_import_job_updated_at ON import_job;
+
+ALTER TABLE import_job DROP COLUMN updated_at;
@@ -0,0 +1,9 @@
+CREATE INDEX idx_category_name ON category (name, id);
+CREATE INDEX idx_category_created_at ON category (created_at, id);
+
+CREATE INDEX idx_genres_name ON genres (name, id);
+CREATE INDEX idx_genres_created_at ON genres (created_at, id);
+
+CREATE INDEX idx_cast_members_name ON cast_members (name, id);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at, id);
+CREATE INDEX idx_cast_members_type ON cast_members (type, id);
@@ -0,0 +1,8 @@
+CREATE TABLE cache_invalidation (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(64) NOT NULL,
+    entry_key VARCHAR(36) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidation_created_at ON cache_invalidation (created_at);
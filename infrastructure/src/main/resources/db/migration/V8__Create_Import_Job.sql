@@ -0,0 +1,15 @@
+CREATE TABLE import_job (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    target VARCHAR(32) NOT NULL,
+    state VARCHAR(16) NOT NULL,
+    rows_read BIGINT NOT NULL,
+    created BIGINT NOT NULL,
+    invalid BIGINT NOT NULL,
+    failed BIGINT NOT NULL,
+    started_at DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL,
+    failure VARCHAR(4000) NULL,
+    errors LONGTEXT NOT NULL
+);
+
+CREATE INDEX idx_import_job_finished_at ON import_job (finished_at);
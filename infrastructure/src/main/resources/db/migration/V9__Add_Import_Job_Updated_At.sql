@@ -0,0 +1,3 @@
+ALTER TABLE import_job ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_import_job_updated_at ON import_job (updated_at);
@@ -0,0 +1,115 @@
+package com.ioliveira.admin.catalogo.benchmark;
+
+import com.ioliveira.admin.catalogo.domain.utils.IdGenerator;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the insert throughput of random (v4) and time-ordered (v7) ids on a
+ * {@code BINARY(16)} primary key once the table is larger than the buffer pool.
+ * Run it with {@code ./gradlew :infrastructure:benchmarks}; the sizes can be changed
+ * with {@code -Dbenchmark.seedRows} and {@code -Dbenchmark.measuredRows}.
+ */
+@Tag("benchmark")
+@Testcontainers
+public class IdInsertBenchmark {
+
+    private static final int SEED_ROWS = Integer.getInteger("benchmark.seedRows", 2_000_000);
+    private static final int MEASURED_ROWS = Integer.getInteger("benchmark.measuredRows", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL_CONTAINER =
+            new MySQLContainer<>(DockerImageName.parse("mysql:8.2.0"))
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("adm_videos")
+                    .withUrlParam("rewriteBatchedStatements", "true")
+                    .withCommand("--innodb-buffer-pool-size=32M");
+
+    @Test
+    public void compareRandomAndTimeOrderedIdsInsertThroughput() throws SQLException {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+
+        final double random = run("bench_random_ids", IdGenerator.random());
+        final double timeOrdered = run("bench_time_ordered_ids", IdGenerator.timeOrdered());
+
+        System.out.printf(
+                "Inserts/s after %d seeded rows: random v4 = %.0f, time-ordered v7 = %.0f (%.2fx)%n",
+                SEED_ROWS, random, timeOrdered, timeOrdered / random
+        );
+    }
+
+    private double run(final String table, final IdGenerator generator) throws SQLException {
+        try (Connection connection = connect()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE %s (
+                            id BINARY(16) NOT NULL PRIMARY KEY,
+                            name VARCHAR(255) NOT NULL,
+                            created_at DATETIME(6) NOT NULL
+                        )""".formatted(table));
+            }
+
+            insert(connection, table, generator, SEED_ROWS);
+
+            final long start = System.nanoTime();
+            insert(connection, table, generator, MEASURED_ROWS);
+            final long elapsed = System.nanoTime() - start;
+
+            try (var statement = connection.createStatement();
+                 var result = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                result.next();
+                assertEquals(SEED_ROWS + MEASURED_ROWS, result.getLong(1));
+            }
+
+            return MEASURED_ROWS / (elapsed / 1_000_000_000d);
+        }
+    }
+
+    private void insert(
+            final Connection connection,
+            final String table,
+            final IdGenerator generator,
+            final int rows) throws SQLException {
+
+        final var sql = "INSERT INTO %s (id, name, created_at) VALUES (?, ?, ?)".formatted(table);
+        try (var statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setBytes(1, UUIDs.toBytes(generator.generate().toString()));
+                statement.setString(2, "Row " + i);
+                statement.setTimestamp(3, Timestamp.from(Instant.now()));
+                statement.addBatch();
+
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        final Connection connection = DriverManager.getConnection(
+                MYSQL_CONTAINER.getJdbcUrl(),
+                MYSQL_CONTAINER.getUsername(),
+                MYSQL_CONTAINER.getPassword()
+        );
+        connection.setAutoCommit(false);
+        return connection;
+    }
+}
@@ -158,7 +158,26 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByDescriptionOrderedByRelevance() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+        assertEquals(0, repository.count());
+
+        givenACategory("Animações", "Desenhos e filmes animados", true);
+        givenACategory("Clássicos", "Filmes antigos e filmes restaurados", true);
+        givenACategory("Filmes", "Longas metragens", true);
+        givenACategory("Séries", null, true);
+
+        assertEquals(4, repository.count());
+
+        listCategories(0, 10, "filmes")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(3)))
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Clássicos")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByDescription() throws Exception {
         assertTrue(MYSQL_CONTAINER.isRunning());
         assertEquals(0, repository.count());
 
@@ -168,15 +187,10 @@ public class CategoryE2ETest {
 
         assertEquals(3, repository.count());
 
+        // description is a VARCHAR(4000) too long for an index, so only name and createdAt sort.
         listCategories(0, 3, "description", "desc", "")
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.current_page", equalTo(0)))
-                .andExpect(jsonPath("$.per_page", equalTo(3)))
-                .andExpect(jsonPath("$.total", equalTo(3)))
-                .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Documentários")))
-                .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Séries")));
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'sort' must be one of name, createdAt")));
     }
 
     @Test
@@ -4,9 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ioliveira.admin.catalogo.ApiTest;
 import com.ioliveira.admin.catalogo.ControllerTest;
 import com.ioliveira.admin.catalogo.Fixture;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.BulkGetCastMemberUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.ioliveira.admin.catalogo.application.castmember.retrieve.list.ListCastMemberOutput;
@@ -20,33 +25,43 @@ import com.ioliveira.admin.catalogo.domain.exceptions.NotFoundException;
 import com.ioliveira.admin.catalogo.domain.exceptions.NotificationException;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CastMemberAPI.class)
@@ -61,6 +76,12 @@ public class CastMemberAPITest {
     @MockBean
     private CreateCastMemberUseCase createCastMemberUseCase;
 
+    @MockBean
+    private BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase;
+
+    @MockBean
+    private BulkGetCastMemberUseCase bulkGetCastMemberUseCase;
+
     @MockBean
     private GetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
@@ -73,6 +94,9 @@ public class CastMemberAPITest {
     @MockBean
     private ListCastMembersUseCase listCastMembersUseCase;
 
+    @MockBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         final var expectedName = Fixture.name();
@@ -105,6 +129,95 @@ public class CastMemberAPITest {
         ));
     }
 
+    @Test
+    public void givenAListOfCommands_whenCallsBulkCreateCastMembersApi_shouldReturnAStatusPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var input = List.of(
+                new CreateCastMemberRequest("Vin Diesel", CastMemberType.ACTOR),
+                new CreateCastMemberRequest(null, CastMemberType.ACTOR)
+        );
+
+        when(bulkCreateCastMemberUseCase.execute(any()))
+                .thenReturn(List.of(
+                        BulkItemOutput.created(0, "123"),
+                        BulkItemOutput.invalid(1, Notification.create(new Error(expectedErrorMessage)))
+                ));
+
+        final var request = post("/cast_members/bulk")
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", equalTo("CREATED")))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].status", equalTo("INVALID")))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkCreateCastMemberUseCase).execute(argThat(commands ->
+                commands.size() == 2
+                        && Objects.equals(input.get(0).name(), commands.get(0).name())
+                        && commands.get(1).name() == null
+        ));
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsGetCastMembersByIdsApi_shouldReturnBothInRequestOrder() throws Exception {
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var expectedId = vin.getId().getValue();
+        final var expectedMissing = "123";
+
+        when(bulkGetCastMemberUseCase.execute(any()))
+                .thenReturn(new BulkGetOutput<>(List.of(CastMemberOutput.from(vin)), List.of(expectedMissing)));
+
+        final var request = get("/cast_members")
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .queryParam("ids", expectedId + "," + expectedMissing);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.missing", hasSize(1)))
+                .andExpect(jsonPath("$.missing[0]", equalTo(expectedMissing)));
+
+        verify(bulkGetCastMemberUseCase).execute(List.of(expectedId, expectedMissing));
+    }
+
+    @Test
+    public void givenStoredCastMembers_whenCallsExportCastMembersApi_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var quentin = CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR);
+
+        doAnswer(invocation -> {
+            final Consumer<CastMemberOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CastMemberOutput.from(vin));
+            consumer.accept(CastMemberOutput.from(quentin));
+            return null;
+        }).when(exportCastMembersUseCase).execute(any());
+
+        final var started = this.mvc.perform(get("/cast_members/export").with(ApiTest.CAST_MEMBERS_JWT))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var lines = this.mvc.perform(asyncDispatch(started))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(vin.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText());
+        assertEquals(quentin.getId().getValue(), this.mapper.readTree(lines[1]).get("id").asText());
+    }
+
     @Test
     public void givenAnInvalidName_whenCallsCreateCastMember_shouldReturnNotification() throws Exception {
         final String expectedName = null;
@@ -165,6 +278,27 @@ public class CastMemberAPITest {
         verify(getCastMemberByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAStaleETag_whenCallsGetById_shouldReturnItWithTheCurrentETag() throws Exception {
+        final var member = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
+        final var expectedId = member.getId().getValue();
+        final var expectedETag = ETags.of(expectedId, member.getUpdatedAt());
+        final var staleETag = ETags.of(expectedId, member.getUpdatedAt().minusSeconds(1));
+
+        when(getCastMemberByIdUseCase.execute(any()))
+                .thenReturn(CastMemberOutput.from(member));
+
+        final var request = get("/cast_members/{id}", expectedId)
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetByIdAndCastMemberDoesntExists_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "CastMember with ID 123 was not found";
@@ -3,9 +3,14 @@ package com.ioliveira.admin.catalogo.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ioliveira.admin.catalogo.ApiTest;
 import com.ioliveira.admin.catalogo.ControllerTest;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.ioliveira.admin.catalogo.application.category.retrieve.get.BulkGetCategoryUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.ioliveira.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.ioliveira.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
@@ -17,37 +22,47 @@ import com.ioliveira.admin.catalogo.domain.category.CategoryID;
 import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
 import com.ioliveira.admin.catalogo.domain.exceptions.NotFoundException;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.domain.validation.Error;
 import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.ioliveira.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CategoryAPI.class)
@@ -62,6 +77,12 @@ public class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
+
+    @MockBean
+    private BulkGetCategoryUseCase bulkGetCategoryUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
@@ -74,6 +95,9 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_WhenCallsCreateCategoryApi_ShouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -104,6 +128,133 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAListOfCommands_whenCallsBulkCreateCategoriesApi_shouldReturnAStatusPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var input = List.of(
+                new CreateCategoryRequest("Filmes", null, null),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(bulkCreateCategoryUseCase.execute(any()))
+                .thenReturn(List.of(
+                        BulkItemOutput.created(0, "123"),
+                        BulkItemOutput.invalid(1, Notification.create(new Error(expectedErrorMessage)))
+                ));
+
+        final var request = post("/categories/bulk")
+                .with(ApiTest.CATEGORIES_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", equalTo("CREATED")))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].status", equalTo("INVALID")))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkCreateCategoryUseCase).execute(argThat(commands ->
+                commands.size() == 2
+                        && Objects.equals(input.get(0).name(), commands.get(0).name())
+                        && commands.get(1).name() == null
+        ));
+    }
+
+    @Test
+    public void givenMoreItemsThanTheLimit_whenCallsBulkCreateCategoriesApi_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "A bulk request accepts at most 1000 items";
+        final var input = List.of(new CreateCategoryRequest("Filmes", null, true));
+
+        when(bulkCreateCategoryUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = post("/categories/bulk")
+                .with(ApiTest.CATEGORIES_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsGetCategoriesByIdsApi_shouldReturnBothInRequestOrder() throws Exception {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var expectedId = movies.getId().getValue();
+        final var expectedMissing = "123";
+
+        when(bulkGetCategoryUseCase.execute(any()))
+                .thenReturn(new BulkGetOutput<>(List.of(CategoryOutput.from(movies)), List.of(expectedMissing)));
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("ids", expectedId + "," + expectedMissing);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.missing", hasSize(1)))
+                .andExpect(jsonPath("$.missing[0]", equalTo(expectedMissing)));
+
+        verify(bulkGetCategoryUseCase, times(1)).execute(List.of(expectedId, expectedMissing));
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIdsApi_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "A bulk get accepts at most 1000 ids";
+
+        when(bulkGetCategoryUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("ids", "123,456");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsExportCategoriesApi_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CategoryOutput.from(movies));
+            consumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var started = this.mvc.perform(get("/categories/export").with(ApiTest.CATEGORIES_JWT))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var lines = this.mvc.perform(asyncDispatch(started))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(movies.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText());
+        assertEquals(series.getId().getValue(), this.mapper.readTree(lines[1]).get("id").asText());
+    }
+
     @Test
     public void givenAnInvalidName_WhenCallsCreateCategoryApi_ShouldReturnNotification() throws Exception {
         final String expectedName = null;
@@ -195,6 +346,26 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.deleted_at", equalTo(category.getDeletedAt())));
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetCategoryApi_shouldReturnNotModified() throws Exception {
+        final Category category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+        final var expectedETag = ETags.of(expectedId, category.getUpdatedAt());
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var request = get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetCategoryApi_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 123 was not found";
@@ -321,6 +492,31 @@ public class CategoryAPITest {
         verify(deleteCategoryUseCase, times(1)).execute(expectedId);
     }
 
+    @Test
+    public void givenTheETagOfAnUnchangedPage_whenCallsListCategoriesApi_shouldReturnNotModified() throws Exception {
+        final var category = Category.newCategory("Movies", null, true);
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var expectedETag = this.mvc.perform(get("/categories").with(ApiTest.CATEGORIES_JWT))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     public void givenAValidParam_whenCallsListCategoriesApi_shouldReturnCategories() throws Exception {
         final var category = Category.newCategory("Movies", null, true);
@@ -368,4 +564,96 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenACursorAndTotalNone_whenCallsListCategoriesApi_shouldReturnNextCursorWithoutTotal() throws Exception {
+        final var category = Category.newCategory("Movies", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJzb3J0IjoibmFtZSIsImlkIjoiMTIzIn0";
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(
+                        expectedPage, expectedPerPage, expectedTotal, expectedItems, expectedNextCursor, true
+                ));
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .queryParam("total", "none");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) expectedTotal)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(TotalMode.NONE, query.total())
+        ));
+    }
+
+    @Test
+    public void givenACursorWithoutTotal_whenCallsListCategoriesApi_shouldNotCountTheTotal() throws Exception {
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of(), null, false));
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("cursor", expectedCursor);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(TotalMode.NONE, query.total())
+        ));
+    }
+
+    @Test
+    public void givenNoCursorAndNoTotal_whenCallsListCategoriesApi_shouldCountTheTotal() throws Exception {
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                query.cursor() == null && Objects.equals(TotalMode.EXACT, query.total())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidTotalMode_whenCallsListCategoriesApi_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'total' must be one of exact, none or estimated";
+
+        final var request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("total", "approximately");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
 }
@@ -3,9 +3,14 @@ package com.ioliveira.admin.catalogo.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ioliveira.admin.catalogo.ApiTest;
 import com.ioliveira.admin.catalogo.ControllerTest;
+import com.ioliveira.admin.catalogo.application.bulk.BulkGetOutput;
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.ioliveira.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.export.ExportGenresUseCase;
+import com.ioliveira.admin.catalogo.application.genre.retreieve.get.BulkGetGenreUseCase;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GenreOutput;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.get.GetGenreByIdUseCase;
 import com.ioliveira.admin.catalogo.application.genre.retreieve.list.GenreListOutput;
@@ -22,31 +27,40 @@ import com.ioliveira.admin.catalogo.domain.validation.Error;
 import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.ioliveira.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.ioliveira.admin.catalogo.infrastructure.utils.ETags;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = GenreAPI.class)
@@ -61,6 +75,12 @@ public class GenreAPITest {
     @MockBean
     private CreateGenreUseCase createGenreUseCase;
 
+    @MockBean
+    private BulkCreateGenreUseCase bulkCreateGenreUseCase;
+
+    @MockBean
+    private BulkGetGenreUseCase bulkGetGenreUseCase;
+
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
@@ -73,6 +93,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     public void givenAValidCommand_WhenCallsCreateGenreApi_ShouldReturnGenreId() throws Exception {
         final var expectedName = "Ação";
@@ -103,6 +126,95 @@ public class GenreAPITest {
         ));
     }
 
+    @Test
+    public void givenAListOfCommands_whenCallsBulkCreateGenresApi_shouldReturnAStatusPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var input = List.of(
+                new CreateGenreRequest("Ação", List.of("123"), null),
+                new CreateGenreRequest(null, List.of(), true)
+        );
+
+        when(bulkCreateGenreUseCase.execute(any()))
+                .thenReturn(List.of(
+                        BulkItemOutput.created(0, "123"),
+                        BulkItemOutput.invalid(1, Notification.create(new Error(expectedErrorMessage)))
+                ));
+
+        final var request = post("/genres/bulk")
+                .with(ApiTest.GENRES_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", equalTo("CREATED")))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].status", equalTo("INVALID")))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkCreateGenreUseCase).execute(argThat(commands ->
+                commands.size() == 2
+                        && Objects.equals(input.get(0).name(), commands.get(0).name())
+                        && commands.get(1).name() == null
+        ));
+    }
+
+    @Test
+    public void givenFoundAndMissingIds_whenCallsGetGenresByIdsApi_shouldReturnBothInRequestOrder() throws Exception {
+        final var action = Genre.newGenre("Ação", true);
+        final var expectedId = action.getId().getValue();
+        final var expectedMissing = "123";
+
+        when(bulkGetGenreUseCase.execute(any()))
+                .thenReturn(new BulkGetOutput<>(List.of(GenreOutput.from(action)), List.of(expectedMissing)));
+
+        final var request = get("/genres")
+                .with(ApiTest.GENRES_JWT)
+                .queryParam("ids", expectedId + "," + expectedMissing);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.missing", hasSize(1)))
+                .andExpect(jsonPath("$.missing[0]", equalTo(expectedMissing)));
+
+        verify(bulkGetGenreUseCase).execute(List.of(expectedId, expectedMissing));
+    }
+
+    @Test
+    public void givenStoredGenres_whenCallsExportGenresApi_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final var action = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+
+        doAnswer(invocation -> {
+            final Consumer<GenreOutput> consumer = invocation.getArgument(0);
+            consumer.accept(GenreOutput.from(action));
+            consumer.accept(GenreOutput.from(drama));
+            return null;
+        }).when(exportGenresUseCase).execute(any());
+
+        final var started = this.mvc.perform(get("/genres/export").with(ApiTest.GENRES_JWT))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var lines = this.mvc.perform(asyncDispatch(started))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(action.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText());
+        assertEquals(drama.getId().getValue(), this.mapper.readTree(lines[1]).get("id").asText());
+    }
+
     @Test
     public void givenAnInvalidName_WhenCallsCreateGenreApi_ShouldReturnNotification() throws Exception {
         final var expectedCategories = List.of("123", "456");
@@ -170,6 +282,60 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetGenreApi_shouldReturnNotModified() throws Exception {
+        final Genre genre = Genre.newGenre("Ação", true);
+        final var expectedId = genre.getId().getValue();
+        final var expectedETag = ETags.of(expectedId, genre.getUpdatedAt(), List.of());
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(genre));
+
+        final var request = get("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenACategoryRemovedWithoutUpdatingTheGenre_whenCallsGetGenreApi_shouldReturnTheNewBody() throws Exception {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+
+        final Genre genre = Genre.newGenre("Ação", true);
+        genre.addCategories(List.of(filmes, series));
+        final var expectedId = genre.getId().getValue();
+        final var staleETag = ETags.of(expectedId, genre.getUpdatedAt(), List.of(filmes.getValue(), series.getValue()));
+
+        final var withoutSeries = GenreOutput.from(genre);
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(new GenreOutput(
+                        withoutSeries.id(),
+                        withoutSeries.name(),
+                        withoutSeries.isActive(),
+                        List.of(filmes.getValue()),
+                        withoutSeries.createdAt(),
+                        withoutSeries.updatedAt(),
+                        withoutSeries.deletedAt()
+                ));
+
+        final var request = get("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        ETags.of(expectedId, genre.getUpdatedAt(), List.of(filmes.getValue()))))
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of(filmes.getValue()))));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetGenreApi_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Genre with ID 123 was not found";
@@ -329,6 +495,25 @@ public class GenreAPITest {
 
     }
 
+    @Test
+    public void givenTheETagOfTheUnpresentedPage_whenCallsListGenresApi_shouldReturnNotModified() throws Exception {
+        final var genre = Genre.newGenre("Ação", true);
+        final var page = new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(genre)));
+        final var expectedETag = ETags.of(page);
+
+        when(listGenreUseCase.execute(any())).thenReturn(page);
+
+        final var request = get("/genres")
+                .with(ApiTest.GENRES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
     private List<String> sorted(final List<String> categories) {
         return categories.stream().sorted().toList();
     }
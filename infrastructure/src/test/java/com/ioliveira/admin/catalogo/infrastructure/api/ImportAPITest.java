@@ -0,0 +1,175 @@
+package com.ioliveira.admin.catalogo.infrastructure.api;
+
+import com.ioliveira.admin.catalogo.ApiTest;
+import com.ioliveira.admin.catalogo.ControllerTest;
+import com.ioliveira.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
+import com.ioliveira.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportFormat;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJob;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobStatus;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportJobs;
+import com.ioliveira.admin.catalogo.infrastructure.imports.ImportRowError;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = ImportAPI.class)
+public class ImportAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ImportJobs importJobs;
+
+    @MockBean
+    private BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
+
+    @MockBean
+    private BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase;
+
+    @Test
+    public void givenACsvFile_whenCallsImportCategories_shouldAcceptItAndPointToItsStatus() throws Exception {
+        final var expectedId = "123";
+
+        when(importJobs.submit(any(), eq(ImportFormat.CSV), eq(StandardCharsets.UTF_8), any()))
+                .thenReturn(status(expectedId, ImportJob.State.QUEUED, List.of()));
+
+        final var request = post("/imports/categories")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType("text/csv")
+                .content("name,description,active\nFilmes,,true\n");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/imports/" + expectedId))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.target", equalTo("categories")))
+                .andExpect(jsonPath("$.state", equalTo("QUEUED")));
+
+        verify(importJobs).submit(
+                argThat(target -> "categories".equals(target.name())), eq(ImportFormat.CSV), eq(StandardCharsets.UTF_8), any());
+    }
+
+    @Test
+    public void givenTooManyImports_whenCallsImportCastMembers_shouldReturnTooManyRequests() throws Exception {
+        when(importJobs.submit(any(), eq(ImportFormat.NDJSON), any(), any()))
+                .thenThrow(new RejectedExecutionException());
+
+        final var request = post("/imports/cast_members")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\": \"Keanu Reeves\", \"type\": \"ACTOR\"}\n");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    public void givenALatin1CsvFile_whenCallsImportCategories_shouldDecodeItWithThatCharset() throws Exception {
+        when(importJobs.submit(any(), eq(ImportFormat.CSV), eq(StandardCharsets.ISO_8859_1), any()))
+                .thenReturn(status("123", ImportJob.State.QUEUED, List.of()));
+
+        final var request = post("/imports/categories")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType("text/csv;charset=ISO-8859-1")
+                .content("name\nSéries\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isAccepted());
+
+        verify(importJobs).submit(any(), eq(ImportFormat.CSV), eq(StandardCharsets.ISO_8859_1), any());
+    }
+
+    @Test
+    public void givenAnUnknownCharset_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        final var request = post("/imports/categories")
+                .with(ApiTest.ADMIN_JWT)
+                .header("Content-Type", "text/csv;charset=klingon")
+                .content("name\nFilmes\n");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importJobs, never()).submit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenAJsonBody_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        final var request = post("/imports/categories")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    public void givenARunningImport_whenCallsGetById_shouldReturnItsProgressAndErrors() throws Exception {
+        final var expectedId = "123";
+        final var expectedErrors = List.of(new ImportRowError(3, List.of(new Error("'name' should not be empty"))));
+
+        when(importJobs.status(expectedId))
+                .thenReturn(Optional.of(status(expectedId, ImportJob.State.RUNNING, expectedErrors)));
+
+        final var request = get("/imports/{id}", expectedId)
+                .with(ApiTest.ADMIN_JWT);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", equalTo("RUNNING")))
+                .andExpect(jsonPath("$.rows", equalTo(1000)))
+                .andExpect(jsonPath("$.created", equalTo(999)))
+                .andExpect(jsonPath("$.invalid", equalTo(1)))
+                .andExpect(jsonPath("$.rows_per_second", equalTo(500.0)))
+                .andExpect(jsonPath("$.errors[0].row", equalTo(3)))
+                .andExpect(jsonPath("$.errors[0].errors[0].message", equalTo("'name' should not be empty")));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetById_shouldReturnNotFound() throws Exception {
+        when(importJobs.status(any())).thenReturn(Optional.empty());
+
+        final var request = get("/imports/{id}", "123")
+                .with(ApiTest.ADMIN_JWT);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobStatus status(final String id, final ImportJob.State state, final List<ImportRowError> errors) {
+        final var startedAt = Instant.parse("2024-01-01T00:00:00Z");
+        return new ImportJobStatus(id, "categories", state, 1000, 999, 1, 0, 500.0, startedAt, null, null, errors);
+    }
+}
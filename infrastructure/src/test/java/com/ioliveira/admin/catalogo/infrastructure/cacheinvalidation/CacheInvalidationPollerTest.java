@@ -0,0 +1,132 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class CacheInvalidationPollerTest {
+
+    @Mock
+    private CacheInvalidationMySQLGateway gateway;
+
+    private final List<CacheInvalidation> evicted = new ArrayList<>();
+
+    private final MutableClock clock = new MutableClock();
+
+    private CacheInvalidationPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        when(gateway.lastId()).thenReturn(10L);
+        this.poller = new CacheInvalidationPoller(gateway, evicted::add, Duration.ofSeconds(5), Duration.ofHours(1), clock);
+        this.poller.start(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.poller.close();
+    }
+
+    @Test
+    public void givenConsecutiveRows_whenCallsPoll_shouldEvictThemAndAdvanceTheCursor() {
+        final var expectedRows = List.of(row(11, "123"), row(12, "456"));
+        when(gateway.after(10L)).thenReturn(expectedRows);
+
+        poller.poll();
+
+        assertEquals(expectedRows, evicted);
+        assertEquals(12, poller.cursor());
+    }
+
+    @Test
+    public void givenAGapInTheIds_whenCallsPoll_shouldStopBeforeItUntilTheGracePeriodEnds() {
+        final var committedFirst = row(12, "456");
+        when(gateway.after(10L)).thenReturn(List.of(committedFirst));
+
+        poller.poll();
+
+        assertEquals(List.of(committedFirst), evicted);
+        assertEquals(10, poller.cursor());
+
+        final var committedLate = row(11, "123");
+        when(gateway.after(10L)).thenReturn(List.of(committedLate, committedFirst));
+
+        poller.poll();
+
+        assertEquals(12, poller.cursor());
+        assertEquals(List.of(committedFirst, committedLate, committedFirst), evicted);
+    }
+
+    @Test
+    public void givenAGapThatNeverFills_whenTheGracePeriodEnds_shouldSkipIt() {
+        when(gateway.after(10L)).thenReturn(List.of(row(13, "789")));
+
+        poller.poll();
+        assertEquals(10, poller.cursor());
+
+        clock.advance(Duration.ofSeconds(6));
+        poller.poll();
+
+        assertEquals(13, poller.cursor());
+        verify(gateway, never()).deleteOlderThan(any());
+    }
+
+    @Test
+    public void givenTheRetentionElapsed_whenCallsPoll_shouldDeleteOldRows() {
+        when(gateway.after(anyLong())).thenReturn(List.of());
+
+        clock.advance(Duration.ofHours(1));
+        poller.poll();
+
+        verify(gateway).deleteOlderThan(clock.instant().minus(Duration.ofHours(1)));
+    }
+
+    private static CacheInvalidation row(final long id, final String key) {
+        return new CacheInvalidation(id, "categories", key);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            this.now = this.now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation;
+
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application contexts sharing one H2 database stand in for two replicas.
+ */
+@Tag("integrationTest")
+public class CacheInvalidationTwoNodesTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    public void givenACategoryCachedOnNodeB_whenNodeAUpdatesIt_shouldBeEvictedOnNodeB() {
+        final var gatewayA = nodeA.getBean(CategoryGateway.class);
+        final var gatewayB = nodeB.getBean(CategoryGateway.class);
+
+        final var category = gatewayA.create(Category.newCategory("Filmes", null, true));
+        final var expectedId = category.getId();
+        assertEquals("Filmes", gatewayB.findById(expectedId).get().getName());
+
+        gatewayA.update(category.update("Séries", null, true));
+
+        awaitUntil(() -> "Séries".equals(gatewayB.findById(expectedId).get().getName()));
+    }
+
+    @Test
+    public void givenACategoryCachedOnNodeB_whenNodeADeletesIt_shouldBeEvictedOnNodeB() {
+        final var gatewayA = nodeA.getBean(CategoryGateway.class);
+        final var gatewayB = nodeB.getBean(CategoryGateway.class);
+
+        final var expectedId = gatewayA.create(Category.newCategory("Documentários", null, true)).getId();
+        assertTrue(gatewayB.findById(expectedId).isPresent());
+
+        gatewayA.deleteById(expectedId);
+
+        awaitUntil(() -> gatewayB.findById(expectedId).isEmpty());
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:cache_invalidation_nodes;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--cache.gateways.enabled=true",
+                        "--cache.gateways.invalidation-log=true",
+                        "--cache.gateways.invalidation-poll-interval=50ms",
+                        "--cache.gateways.invalidation-grace=200ms",
+                        // Both nodes would share the JVM-wide JCache manager, which is not what two replicas do.
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false"
+                );
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 seconds");
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
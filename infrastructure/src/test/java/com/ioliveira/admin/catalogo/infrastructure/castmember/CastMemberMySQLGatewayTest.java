@@ -5,15 +5,19 @@ import com.ioliveira.admin.catalogo.MySQLGatewayTest;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMember;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberID;
 import com.ioliveira.admin.catalogo.domain.castmember.CastMemberType;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,6 +32,9 @@ public class CastMemberMySQLGatewayTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void cleanUp() {
         this.castMemberRepository.deleteAll();
@@ -110,6 +117,28 @@ public class CastMemberMySQLGatewayTest {
         assertEquals(0, castMemberRepository.count());
     }
 
+    @Test
+    public void givenAValidCastMember_whenCallsCreateAndDelete_shouldIssueOneStatementEach() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var member = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
+        castMemberGateway.create(member);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, castMemberRepository.count());
+
+        statistics.clear();
+        castMemberGateway.deleteById(member.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, castMemberRepository.count());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsDeleteById_shouldBeIgnored() {
         final var member = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
@@ -278,6 +307,38 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Jason Momoa;Kit Harington;Martin Scorsese;Quentin Tarantino;Vin Diesel",
+            "name,desc,Vin Diesel;Quentin Tarantino;Martin Scorsese;Kit Harington;Jason Momoa",
+    })
+    public void givenAValidCursor_whenCallsFindAll_shouldReturnNextPagesByKeyset(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedNames
+    ) {
+        mockMembers();
+
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+        final var expectedTerms = "";
+
+        final var actualNames = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var query =
+                    new SearchQuery(0, expectedPerPage, expectedTerms, expectedSort, expectedDirection, cursor);
+
+            final var actualPage = castMemberGateway.findAll(query);
+
+            assertEquals(cursor == null ? expectedTotal : Pagination.UNKNOWN_TOTAL, actualPage.total());
+            actualPage.items().forEach(member -> actualNames.add(member.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(expectedNames.split(";")), actualNames);
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.newMember("Kit Harington", CastMemberType.ACTOR)),
@@ -0,0 +1,196 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.genre.Genre;
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.infrastructure.configuration.cache.PageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class CategoryCachingGatewayTest {
+
+    @Mock
+    private CategoryGateway mySQLGateway;
+
+    private Cache<CategoryID, Category> categories;
+
+    private Cache<CategoryID, Boolean> missing;
+
+    private Cache<GenreID, Genre> genres;
+
+    private CategoryCachingGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.categories = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        this.missing = Caffeine.newBuilder().maximumSize(100).build();
+        this.genres = Caffeine.newBuilder().maximumSize(100).build();
+        this.gateway = new CategoryCachingGateway(
+                mySQLGateway,
+                categories,
+                missing,
+                new PageCache("categories", Caffeine.newBuilder().maximumSize(100).build(), null),
+                genres,
+                new PageCache("genres", Caffeine.newBuilder().maximumSize(100).build(), null)
+        );
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_shouldNotHitTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(mySQLGateway.findById(eq(expectedId))).thenReturn(Optional.of(category));
+
+        gateway.findById(expectedId).get().update("Séries", null, true);
+        final var actualCategory = gateway.findById(expectedId).get();
+
+        assertEquals("Filmes", actualCategory.getName());
+        assertEquals(1, categories.stats().hitCount());
+        verify(mySQLGateway, times(1)).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindByIdAgain_shouldNotHitTheDelegate() {
+        final var expectedId = CategoryID.unique();
+
+        when(mySQLGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+        assertTrue(gateway.findById(expectedId).isEmpty());
+        assertTrue(gateway.findById(expectedId).isEmpty());
+
+        verify(mySQLGateway, times(1)).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAMissingCategory_whenItIsCreated_shouldBeFound() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(mySQLGateway.findById(eq(expectedId)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(category));
+        when(mySQLGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        assertTrue(gateway.findById(expectedId).isEmpty());
+
+        gateway.create(category);
+
+        assertTrue(gateway.findById(expectedId).isPresent());
+    }
+
+    @Test
+    public void givenAnUpperCaseIdFoundMissing_whenItIsCreated_shouldBeFound() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var upperCaseId = CategoryID.from(category.getId().getValue().toUpperCase());
+
+        when(mySQLGateway.findById(eq(upperCaseId)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(category));
+        when(mySQLGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        assertTrue(gateway.findById(upperCaseId).isEmpty());
+
+        gateway.create(category);
+
+        assertTrue(gateway.findById(upperCaseId).isPresent());
+        verify(mySQLGateway, times(2)).findById(eq(upperCaseId));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsFindById_shouldNotHitTheDelegate() {
+        final var expectedId = CategoryID.from("invalid");
+
+        assertTrue(gateway.findById(expectedId).isEmpty());
+
+        verify(mySQLGateway, never()).findById(any());
+        assertNull(missing.getIfPresent(expectedId));
+    }
+
+    @Test
+    public void givenACategoryReadByAnUpperCaseId_whenCallsUpdate_shouldEvictIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var upperCaseId = CategoryID.from(category.getId().getValue().toUpperCase());
+        final var updated = category.clone().update("Séries", null, true);
+
+        when(mySQLGateway.findById(eq(upperCaseId)))
+                .thenReturn(Optional.of(category))
+                .thenReturn(Optional.of(updated));
+        when(mySQLGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        assertEquals("Filmes", gateway.findById(upperCaseId).get().getName());
+
+        gateway.update(updated);
+
+        assertEquals("Séries", gateway.findById(upperCaseId).get().getName());
+        verify(mySQLGateway, times(2)).findById(eq(upperCaseId));
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldEvictIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(mySQLGateway.findById(eq(expectedId))).thenReturn(Optional.of(category));
+        when(mySQLGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(expectedId);
+        gateway.update(category.clone().update("Séries", null, true));
+
+        assertNull(categories.getIfPresent(expectedId));
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallsExistsByIds_shouldOnlyQueryTheUnknownIds() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categories.put(filmes.getId(), filmes);
+
+        when(mySQLGateway.existsByIds(eq(List.of(series.getId())))).thenReturn(List.of(series.getId()));
+
+        final var actualIds = gateway.existsByIds(List.of(filmes.getId(), series.getId()));
+
+        assertEquals(List.of(filmes.getId(), series.getId()), actualIds);
+        verify(mySQLGateway, times(1)).existsByIds(eq(List.of(series.getId())));
+    }
+
+    @Test
+    public void givenCachedGenres_whenCallsDeleteById_shouldClearThem() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var genre = Genre.newGenre("Ação", true);
+
+        categories.put(category.getId(), category);
+        genres.put(genre.getId(), genre);
+
+        gateway.deleteById(category.getId());
+
+        assertNull(categories.getIfPresent(category.getId()));
+        assertNull(genres.getIfPresent(genre.getId()));
+        verify(mySQLGateway, times(1)).deleteById(eq(category.getId()));
+    }
+}
@@ -0,0 +1,149 @@
+package com.ioliveira.admin.catalogo.infrastructure.category;
+
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class CategoryIndexedGatewayTest {
+
+    @Mock
+    private CategoryGateway mySQLGateway;
+
+    private CategoryIdIndex index;
+
+    private CategoryIndexedGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new CategoryIdIndex();
+        this.gateway = new CategoryIndexedGateway(mySQLGateway, index);
+    }
+
+    @Test
+    public void givenIndexedIds_whenCallsExistsByIds_shouldNotHitTheDelegate() {
+        final var filmes = CategoryID.unique();
+        final var series = CategoryID.unique();
+        index.load(consumer -> List.of(filmes, series).forEach(consumer));
+
+        final var actualIds = gateway.existsByIds(List.of(series, filmes, series));
+
+        assertEquals(List.of(series, filmes), actualIds);
+        verify(mySQLGateway, never()).existsByIds(anyList());
+    }
+
+    @Test
+    public void givenUnknownIds_whenCallsExistsByIds_shouldQueryOnlyThoseWithoutIndexingThem() {
+        final var filmes = CategoryID.unique();
+        final var series = CategoryID.unique();
+        final var missing = CategoryID.unique();
+        index.load(consumer -> consumer.accept(filmes));
+
+        when(mySQLGateway.existsByIds(eq(List.of(series, missing)))).thenReturn(List.of(series));
+
+        final var actualIds = gateway.existsByIds(List.of(filmes, series, missing));
+
+        assertEquals(List.of(filmes, series), actualIds);
+        assertFalse(index.contains(series));
+        assertFalse(index.contains(missing));
+    }
+
+    @Test
+    public void givenAnIndexNotLoadedYet_whenCallsExistsByIds_shouldAskTheDelegate() {
+        final var expectedId = CategoryID.unique();
+        index.add(expectedId);
+
+        when(mySQLGateway.existsByIds(eq(List.of(expectedId)))).thenReturn(List.of(expectedId));
+
+        assertEquals(List.of(expectedId), gateway.existsByIds(List.of(expectedId)));
+        verify(mySQLGateway).existsByIds(eq(List.of(expectedId)));
+    }
+
+    @Test
+    public void givenCreateAndDelete_whenCallsThem_shouldKeepTheIndexCurrent() {
+        index.load(consumer -> {
+        });
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        when(mySQLGateway.create(any())).then(returnsFirstArg());
+
+        gateway.create(category);
+        assertTrue(index.contains(expectedId));
+
+        gateway.deleteById(expectedId);
+        assertFalse(index.contains(expectedId));
+        verify(mySQLGateway).deleteById(eq(expectedId));
+    }
+
+    @Test
+    public void givenADeleteDuringTheLoad_whenLoadFinishes_shouldNotVouchForTheDeletedId() {
+        final var expectedId = CategoryID.unique();
+
+        index.load(consumer -> {
+            gateway.deleteById(expectedId);
+            consumer.accept(expectedId);
+        });
+
+        assertTrue(index.isReady());
+        assertFalse(index.contains(expectedId));
+    }
+
+    @Test
+    public void givenAnExistsByIdsDuringADelete_whenTheDeleteCommits_shouldNotVouchForTheDeletedId() throws Exception {
+        final var expectedId = CategoryID.unique();
+        index.load(consumer -> consumer.accept(expectedId));
+
+        final var deleting = new CountDownLatch(1);
+        final var committed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            deleting.countDown();
+            committed.await();
+            return null;
+        }).when(mySQLGateway).deleteById(eq(expectedId));
+        when(mySQLGateway.existsByIds(eq(List.of(expectedId))))
+                .thenReturn(List.of(expectedId))
+                .thenReturn(List.of());
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var delete = executor.submit(() -> gateway.deleteById(expectedId));
+            assertTrue(deleting.await(5, TimeUnit.SECONDS));
+
+            // The row is still there until the delete commits, so the delegate confirms it.
+            assertEquals(List.of(expectedId), gateway.existsByIds(List.of(expectedId)));
+
+            committed.countDown();
+            delete.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(index.contains(expectedId));
+        assertEquals(List.of(), gateway.existsByIds(List.of(expectedId)));
+    }
+}
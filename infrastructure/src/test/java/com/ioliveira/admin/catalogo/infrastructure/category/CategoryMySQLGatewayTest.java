@@ -3,20 +3,35 @@ package com.ioliveira.admin.catalogo.infrastructure.category;
 import com.ioliveira.admin.catalogo.MySQLGatewayTest;
 import com.ioliveira.admin.catalogo.domain.category.Category;
 import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.domain.exceptions.DomainException;
 import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.ioliveira.admin.catalogo.infrastructure.utils.UUIDs;
 import org.junit.jupiter.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MySQLGatewayTest
@@ -28,6 +43,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void cleanUp() {
         this.categoryRepository.deleteAll();
@@ -68,6 +86,50 @@ public class CategoryMySQLGatewayTest {
         assertNull(categoryJpaEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenManyCategories_whenCallsCreateAll_shouldPersistThemWithBatchedInserts() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        final var statementsWithTenCategories = createAllCountingStatements(statistics, 10);
+        final var statementsWithHundredCategories = createAllCountingStatements(statistics, 100);
+
+        assertEquals(statementsWithTenCategories, statementsWithHundredCategories);
+        assertEquals(110, categoryRepository.count());
+    }
+
+    private long createAllCountingStatements(final Statistics statistics, final int size) {
+        final var categories = new ArrayList<Category>(size);
+        for (int i = 0; i < size; i++) {
+            categories.add(Category.newCategory("Filmes " + i, null, true));
+        }
+        statistics.clear();
+
+        final var actualCategories = categoryMySQLGateway.createAll(categories);
+        entityManager.flush();
+
+        assertEquals(categories.stream().map(Category::getId).toList(),
+                actualCategories.stream().map(Category::getId).toList());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldStoreTheIdAsSixteenBytes() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        categoryMySQLGateway.create(category);
+        entityManager.flush();
+
+        final var storedId = (byte[]) entityManager
+                .createNativeQuery("SELECT id FROM category")
+                .getSingleResult();
+
+        assertEquals(16, storedId.length);
+        assertEquals(category.getId().getValue(), UUIDs.fromBytes(storedId));
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Filmes";
@@ -125,6 +187,54 @@ public class CategoryMySQLGatewayTest {
         assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreateAndDelete_shouldIssueOneStatementEach() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryMySQLGateway.create(category);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, categoryRepository.count());
+
+        statistics.clear();
+        categoryMySQLGateway.deleteById(category.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, categoryRepository.count());
+        assertEquals(0, categoryRepository.deleteRowById(category.getId().getValue()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAStoredCategory_whenCallsFindByIdRepeatedly_shouldServeItFromTheSecondLevelCache() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryMySQLGateway.create(category);
+
+        try {
+            statistics.clear();
+
+            categoryMySQLGateway.findById(category.getId());
+            final var actualCategory = categoryMySQLGateway.findById(category.getId()).get();
+
+            assertEquals(category.getName(), actualCategory.getName());
+            assertEquals(0, statistics.getPrepareStatementCount());
+            assertEquals(2, statistics.getDomainDataRegionStatistics(CategoryJpaEntity.CACHE_REGION).getHitCount());
+        } finally {
+            categoryRepository.deleteAll();
+        }
+    }
+
     @Test
     public void givenAnInvalidCategoryId_whenCallsDelete_shouldDoNothing() {
         final Category category = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -166,6 +276,50 @@ public class CategoryMySQLGatewayTest {
         assertNull(categoryFound.getDeletedAt());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnTheFoundInRequestOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var actualCategories = categoryMySQLGateway.findAllByIds(List.of(
+                series.getId(),
+                CategoryID.from("123"),
+                CategoryID.unique(),
+                CategoryID.from(filmes.getId().getValue().toUpperCase()),
+                series.getId()
+        ));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), actualCategories.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsForEach_shouldStreamThemDetachingEachOne() {
+        final var expectedIds = new ArrayList<CategoryID>();
+        for (int i = 0; i < 10; i++) {
+            final var category = Category.newCategory("Filmes " + i, null, true);
+            categoryRepository.save(CategoryJpaEntity.from(category));
+            expectedIds.add(category.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final var session = entityManager.unwrap(Session.class);
+        final var actualIds = new ArrayList<CategoryID>();
+        final var maxManaged = new AtomicInteger();
+
+        categoryMySQLGateway.forEach(category -> {
+            actualIds.add(category.getId());
+            maxManaged.accumulateAndGet(session.getStatistics().getEntityCount(), Math::max);
+        });
+
+        assertEquals(Set.copyOf(expectedIds), Set.copyOf(actualIds));
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertEquals(1, maxManaged.get());
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsFindAll_shouldReturnCategoriesPaginated() {
         final var expectedPage = 0;
@@ -327,6 +481,175 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), result.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithCursor_shouldWalkAllPagesByKeyset() {
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+        final var novelas = Category.newCategory("Novelas", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(animes),
+                CategoryJpaEntity.from(novelas)
+        ));
+
+        assertEquals(5, categoryRepository.count());
+
+        // Page 0
+        var result = categoryMySQLGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc"));
+
+        assertEquals(expectedTotal, result.total());
+        assertEquals(List.of(animes.getId(), documentarios.getId()), ids(result));
+        assertNotNull(result.nextCursor());
+
+        // Page 1
+        result = categoryMySQLGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", result.nextCursor()));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(List.of(filmes.getId(), novelas.getId()), ids(result));
+        assertNotNull(result.nextCursor());
+
+        // Page 2
+        result = categoryMySQLGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", result.nextCursor()));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(List.of(series.getId()), ids(result));
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' does not match the requested sort";
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var cursor = categoryMySQLGateway
+                .findAll(new SearchQuery(0, 1, "", "name", "asc"))
+                .nextCursor();
+
+        final var query = new SearchQuery(0, 1, "", "createdAt", "asc", cursor);
+
+        final var exception = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' must be one of name, createdAt";
+
+        final var query = new SearchQuery(0, 10, "", "description", "asc");
+
+        final var exception = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenABlankSort_whenCallsFindAll_shouldSortByName() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true))
+        ));
+
+        final var actualPage = categoryMySQLGateway.findAll(new SearchQuery(0, 10, "", "", "asc"));
+
+        assertEquals(2, actualPage.items().size());
+        assertEquals("Filmes", actualPage.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var query = new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        final var exception = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithTotalNone_shouldReturnHasNextWithoutTotal() {
+        final var expectedPerPage = 2;
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        var result = categoryMySQLGateway
+                .findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(expectedPerPage, result.items().size());
+        assertTrue(result.hasNext());
+        assertEquals("Documentários", result.items().get(0).getName());
+
+        result = categoryMySQLGateway
+                .findAll(new SearchQuery(1, expectedPerPage, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(1, result.items().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        assertEquals("Séries", result.items().get(0).getName());
+    }
+
+    @Test
+    public void givenACountedQuery_whenCallsFindAllWithTotalEstimated_shouldReuseTheCachedTotal() {
+        final var expectedTotal = 2;
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var exact = categoryMySQLGateway
+                .findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT));
+
+        assertEquals(expectedTotal, exact.total());
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Animes", null, true)));
+
+        final var estimated = categoryMySQLGateway
+                .findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED));
+
+        assertEquals(expectedTotal, estimated.total());
+        assertEquals("Animes", estimated.items().get(0).getName());
+        assertTrue(estimated.hasNext());
+    }
+
+    @Test
+    public void givenACountedQuery_whenTheGatewayCreatesACategory_shouldCountAgainWithTotalEstimated() {
+        final var expectedTotal = 3;
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        categoryMySQLGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT));
+
+        categoryMySQLGateway.create(Category.newCategory("Animes", null, true));
+
+        final var estimated = categoryMySQLGateway
+                .findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED));
+
+        assertEquals(expectedTotal, estimated.total());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -352,6 +675,37 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(sorted(expectedCategories), sorted(result));
     }
 
+    @Test
+    public void givenDuplicatedAndManyIds_whenCallsExistsByIds_shouldReturnEachExistingIdOnce() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 1200; i++) {
+            ids.add(CategoryID.unique());
+        }
+        ids.add(filmes.getId());
+        ids.add(filmes.getId());
+        ids.add(0, series.getId());
+
+        final var expectedCategories = List.of(filmes.getId(), series.getId());
+
+        final var result = categoryMySQLGateway.existsByIds(ids);
+
+        assertEquals(sorted(expectedCategories), sorted(result));
+    }
+
+    private List<CategoryID> ids(final Pagination<Category> page) {
+        return page.items().stream()
+                .map(Category::getId)
+                .toList();
+    }
+
     private List<CategoryID> sorted(final List<CategoryID> categoryIDS) {
         return categoryIDS.stream()
                 .sorted(Comparator.comparing(CategoryID::getValue))
@@ -0,0 +1,74 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration;
+
+import com.ioliveira.admin.catalogo.ApiTest;
+import com.ioliveira.admin.catalogo.IntegrationTest;
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "metrics.hibernate-statistics=true")
+public class SecondLevelCacheMetricsIT {
+
+    private static final String REQUESTS = "/actuator/metrics/hibernate.second.level.cache.requests";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @AfterEach
+    void cleanUp() {
+        this.categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsMetricsEndpoint_shouldReportHitsOfItsRegion() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        categoryRepository.findById(category.getId().getValue());
+        categoryRepository.findById(category.getId().getValue());
+
+        final var request = get(REQUESTS)
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("tag", "region:" + CategoryJpaEntity.CACHE_REGION)
+                .queryParam("tag", "result:hit");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", equalTo("hibernate.second.level.cache.requests")))
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(2.0)));
+    }
+
+    @Test
+    public void givenAnUnknownCategory_whenCallsMetricsEndpoint_shouldReportMissesOfItsRegion() throws Exception {
+        categoryRepository.findById("00000000-0000-7000-8000-000000000000");
+
+        final var request = get(REQUESTS)
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("tag", "region:" + CategoryJpaEntity.CACHE_REGION)
+                .queryParam("tag", "result:miss");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.ioliveira.admin.catalogo.domain.category.Category;
+import com.ioliveira.admin.catalogo.domain.category.CategoryID;
+import com.ioliveira.admin.catalogo.infrastructure.cacheinvalidation.CacheInvalidation;
+import com.ioliveira.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.category.CategoryIdIndex;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.List;
+
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CAST_MEMBERS;
+import static com.ioliveira.admin.catalogo.infrastructure.configuration.GatewayCacheConfig.CATEGORIES;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class LocalCacheEvictorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @Mock
+    private org.hibernate.Cache hibernateCache;
+
+    private final CategoryIdIndex categoryIdIndex = new CategoryIdIndex();
+
+    private final GatewayCaches gatewayCaches =
+            new GatewayCaches(100, Duration.ofMinutes(10), Duration.ofSeconds(30), null);
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+    }
+
+    @Test
+    public void givenAWholeCategoriesRow_whenAccepts_shouldEvictEveryLayer() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        final var category = Category.newCategory("Filmes", null, true);
+        gatewayCaches.<CategoryID, Category>get(CATEGORIES).put(category.getId(), category);
+
+        new LocalCacheEvictor(gatewayCaches, categoryIdIndex, entityManagerFactory)
+                .accept(new CacheInvalidation(1, CATEGORIES, null));
+
+        assertNull(gatewayCaches.get(CATEGORIES).getIfPresent(category.getId()));
+        verify(secondLevelCache).evict(CategoryJpaEntity.class);
+        verify(hibernateCache).evictQueryRegion(CategoryRepository.EXISTING_IDS_CACHE_REGION);
+    }
+
+    @Test
+    public void givenARowWithAnUpperCaseId_whenAccepts_shouldEvictTheLowerCaseEntry() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedKey = category.getId().getValue();
+        gatewayCaches.<CategoryID, Category>get(CATEGORIES).put(category.getId(), category);
+
+        new LocalCacheEvictor(gatewayCaches, categoryIdIndex, entityManagerFactory)
+                .accept(new CacheInvalidation(1, CATEGORIES, expectedKey.toUpperCase()));
+
+        assertNull(gatewayCaches.get(CATEGORIES).getIfPresent(category.getId()));
+        verify(secondLevelCache).evict(CategoryJpaEntity.class, expectedKey);
+    }
+
+    @Test
+    public void givenNoGatewayCaches_whenAcceptsACategoryRow_shouldStillEvictTheSecondLevelCache() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        final var id = CategoryID.unique();
+
+        new LocalCacheEvictor(null, null, entityManagerFactory)
+                .accept(new CacheInvalidation(1, CATEGORIES, id.getValue()));
+
+        verify(secondLevelCache).evict(CategoryJpaEntity.class, id.getValue());
+        verify(hibernateCache).evictQueryRegion(CategoryRepository.EXISTING_IDS_CACHE_REGION);
+    }
+
+    @Test
+    public void givenADeletedCategoryRow_whenAccepts_shouldRemoveItFromTheIdIndex() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        final var id = CategoryID.unique();
+        categoryIdIndex.load(consumer -> List.of(id).forEach(consumer));
+
+        new LocalCacheEvictor(gatewayCaches, categoryIdIndex, entityManagerFactory)
+                .accept(new CacheInvalidation(1, CATEGORIES, id.getValue()));
+
+        assertFalse(categoryIdIndex.contains(id));
+    }
+
+    @Test
+    public void givenAWholeCastMembersRow_whenAccepts_shouldEvictTheEntityRegion() {
+        new LocalCacheEvictor(null, null, entityManagerFactory)
+                .accept(new CacheInvalidation(1, CAST_MEMBERS, null));
+
+        verify(secondLevelCache).evict(CastMemberJpaEntity.class);
+    }
+}
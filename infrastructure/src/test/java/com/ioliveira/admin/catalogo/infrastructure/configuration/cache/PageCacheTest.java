@@ -0,0 +1,70 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("unitTest")
+public class PageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PageCache pages;
+
+    private AtomicInteger loads;
+
+    private Function<SearchQuery, Pagination<String>> loader;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.pages = new PageCache("categories", Caffeine.newBuilder().maximumSize(100).build(), meterRegistry);
+        this.loads = new AtomicInteger();
+        this.loader = query -> new Pagination<>(query.page(), query.perPage(), 1, List.of("Filmes #" + loads.incrementAndGet()));
+    }
+
+    @Test
+    public void givenTheSameNormalizedQuery_whenCallsGet_shouldLoadOnce() {
+        pages.get("items", new SearchQuery(0, 10, "", "name", "asc"), loader);
+        pages.get("items", new SearchQuery(0, 10, null, "name", "ASC"), loader);
+        pages.get("items", new SearchQuery(0, 10, " ", "name", "asc"), loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenADifferentViewOrQuery_whenCallsGet_shouldLoadEach() {
+        pages.get("items", new SearchQuery(0, 10, "", "name", "asc"), loader);
+        pages.get("previews", new SearchQuery(0, 10, "", "name", "asc"), loader);
+        pages.get("items", new SearchQuery(1, 10, "", "name", "asc"), loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void givenCachedPages_whenCallsInvalidate_shouldReloadAndCountTheStalePages() {
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+
+        pages.get("items", query, loader);
+        pages.get("items", new SearchQuery(1, 10, "", "name", "asc"), loader);
+
+        pages.invalidate();
+
+        final var actualPage = pages.get("items", query, loader);
+
+        assertEquals("Filmes #3", actualPage.items().get(0));
+        assertEquals(1, pages.generation());
+        assertEquals(1, meterRegistry.get("cache.generation").gauge().value());
+        assertEquals(2, meterRegistry.get("cache.generation.evictions").counter().count());
+    }
+}
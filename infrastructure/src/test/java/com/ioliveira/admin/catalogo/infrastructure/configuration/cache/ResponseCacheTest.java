@@ -0,0 +1,133 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.cache;
+
+import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.infrastructure.json.Json;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unitTest")
+public class ResponseCacheTest {
+
+    private static final String GENRES = "genres";
+
+    private GatewayCaches caches;
+
+    private ResponseCache responses;
+
+    private AtomicInteger presented;
+
+    @BeforeEach
+    void setUp() {
+        this.caches = new GatewayCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(1), null);
+        this.responses = new ResponseCache(caches, Json.mapper(), 16);
+        this.presented = new AtomicInteger();
+    }
+
+    @Test
+    public void givenTheSameVersion_whenCallsServeTwice_shouldPresentOnceAndWriteTheSameBytes() {
+        final var first = serve("123", "\"v1\"", null);
+        final var second = serve("123", "\"v1\"", null);
+
+        assertEquals(1, presented.get());
+        assertEquals(200, second.getStatus());
+        assertEquals("\"v1\"", second.getHeader(HttpHeaders.ETAG));
+        assertEquals("application/json", second.getContentType());
+        assertNull(second.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(first.getContentAsString(StandardCharsets.UTF_8), second.getContentAsString(StandardCharsets.UTF_8));
+        assertTrue(second.getContentAsString(StandardCharsets.UTF_8).contains("\"name\":\"Ação #1\""));
+    }
+
+    @Test
+    public void givenAClientAcceptingGzip_whenCallsServe_shouldWriteThePrecompressedVariant() throws IOException {
+        final var identity = serve("123", "\"v1\"", null);
+        final var compressed = serve("123", "\"v1\"", "br, gzip;q=0.8");
+
+        assertEquals("gzip", compressed.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, compressed.getHeader(HttpHeaders.VARY));
+        assertEquals(compressed.getContentAsByteArray().length, compressed.getContentLength());
+        assertEquals(identity.getContentAsString(StandardCharsets.UTF_8), gunzip(compressed.getContentAsByteArray()));
+    }
+
+    @Test
+    public void givenANewerVersion_whenCallsServe_shouldPresentItAgain() {
+        serve("123", "\"v1\"", null);
+        final var actual = serve("123", "\"v2\"", null);
+
+        assertEquals(2, presented.get());
+        assertTrue(actual.getContentAsString(StandardCharsets.UTF_8).contains("\"name\":\"Ação #2\""));
+    }
+
+    @Test
+    public void givenACachedResponse_whenItsAggregateIsEvicted_shouldDropIt() {
+        final var expectedId = GenreID.from("123");
+        caches.get(GENRES).put(expectedId, "genre");
+        serve(expectedId.getValue(), "\"v1\"", null);
+
+        caches.evict(GENRES, expectedId);
+
+        assertNull(caches.responses(GENRES).getIfPresent(expectedId.getValue()));
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsServe_shouldReturnNotModifiedWithoutPresenting() {
+        final var request = new MockHttpServletRequest("GET", "/genres/123");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        final var response = new MockHttpServletResponse();
+
+        final var actual = responses.serve(
+                new ServletWebRequest(request, response), GENRES, "123", "\"v1\"", this::present);
+
+        assertEquals(304, actual.getStatusCodeValue());
+        assertEquals(0, presented.get());
+    }
+
+    @Test
+    public void givenAcceptEncodingHeaders_whenCallsAcceptsGzip_shouldHonorTheQualityValues() {
+        assertTrue(ResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ResponseCache.acceptsGzip("*"));
+        assertFalse(ResponseCache.acceptsGzip("gzip;q=0, *"));
+        assertFalse(ResponseCache.acceptsGzip("identity"));
+        assertFalse(ResponseCache.acceptsGzip(null));
+    }
+
+    private MockHttpServletResponse serve(final String id, final String etag, final String acceptEncoding) {
+        final var request = new MockHttpServletRequest("GET", "/genres/" + id);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        final var response = new MockHttpServletResponse();
+
+        final var actual = responses.serve(new ServletWebRequest(request, response), GENRES, id, etag, this::present);
+
+        assertNull(actual);
+        return response;
+    }
+
+    private Map<String, String> present() {
+        return Map.of("name", "Ação #" + presented.incrementAndGet());
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
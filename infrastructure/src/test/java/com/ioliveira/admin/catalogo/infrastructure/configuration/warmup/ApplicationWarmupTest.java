@@ -0,0 +1,109 @@
+package com.ioliveira.admin.catalogo.infrastructure.configuration.warmup;
+
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
+import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@Tag("unitTest")
+public class ApplicationWarmupTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    @Test
+    public void givenSyntheticCalls_whenCallsRun_shouldRunEachOnePerIterationAndReportReady() {
+        final var expectedIterations = 50;
+        final var calls = new AtomicInteger();
+        final var failures = new AtomicInteger();
+        final var warmup = new ApplicationWarmup(
+                dataSource,
+                List.of(calls::incrementAndGet, () -> {
+                    failures.incrementAndGet();
+                    throw new IllegalStateException("not found");
+                }),
+                List.of(),
+                expectedIterations,
+                Duration.ofSeconds(10)
+        );
+
+        assertEquals(Status.OUT_OF_SERVICE, warmup.health().getStatus());
+
+        warmup.run();
+
+        assertEquals(expectedIterations, calls.get());
+        assertEquals(expectedIterations, failures.get());
+        assertEquals(Status.UP, warmup.health().getStatus());
+    }
+
+    @Test
+    public void givenAnExhaustedTimeBudget_whenCallsRun_shouldStopAndStillReportReady() {
+        final var preloads = new AtomicInteger();
+        final var warmup = new ApplicationWarmup(
+                dataSource,
+                List.of(() -> sleep(20)),
+                List.of(preloads::incrementAndGet),
+                1_000_000,
+                Duration.ofMillis(100)
+        );
+
+        warmup.run();
+
+        assertTrue(warmup.isFinished());
+        assertEquals(0, preloads.get());
+        assertEquals(Status.UP, warmup.health().getStatus());
+    }
+
+    @Test
+    public void givenAPreload_whenCallsRun_shouldLoadTheNewestItemsById() {
+        final var queries = new ArrayList<SearchQuery>();
+        final var loaded = new ArrayList<String>();
+        final var preload = ApplicationWarmup.<String, String>preload(
+                query -> {
+                    queries.add(query);
+                    return new Pagination<>(0, query.perPage(), 2, List.of("b", "a"));
+                },
+                id -> id,
+                loaded::add,
+                25
+        );
+
+        new ApplicationWarmup(dataSource, List.of(), List.of(preload), 1, Duration.ofSeconds(10)).run();
+
+        assertEquals(List.of("b", "a"), loaded);
+        assertEquals(25, queries.get(0).perPage());
+        assertEquals("createdAt", queries.get(0).sort());
+        assertEquals("desc", queries.get(0).direction());
+    }
+
+    @Test
+    public void givenADisabledWarmup_whenCallsSkip_shouldReportReadyWithoutRunning() {
+        final var calls = new AtomicInteger();
+        final var warmup = new ApplicationWarmup(
+                dataSource, List.of(calls::incrementAndGet), List.of(), 10, Duration.ofSeconds(10));
+
+        warmup.skip();
+        warmup.run();
+
+        assertEquals(0, calls.get());
+        assertEquals(Status.UP, warmup.health().getStatus());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,17 +5,28 @@ import com.ioliveira.admin.catalogo.domain.category.Category;
 import com.ioliveira.admin.catalogo.domain.category.CategoryID;
 import com.ioliveira.admin.catalogo.domain.genre.Genre;
 import com.ioliveira.admin.catalogo.domain.genre.GenreID;
+import com.ioliveira.admin.catalogo.domain.genre.GenrePreview;
+import com.ioliveira.admin.catalogo.domain.pagination.Pagination;
 import com.ioliveira.admin.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.admin.catalogo.domain.pagination.TotalMode;
 import com.ioliveira.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.ioliveira.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -35,6 +46,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void cleanUp() {
         this.genreRepository.deleteAll();
@@ -80,6 +94,37 @@ public class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenGenresWithManyCategories_whenCallsCreateGenre_shouldBatchCategoryInserts() {
+        // hibernate.jdbc.batch_size = 100: one batch for the genre, one per 100 categories
+        assertEquals(1 + 1, createGenreCountingBatches(100));
+        assertEquals(1 + 5, createGenreCountingBatches(500));
+        assertEquals(2, genreRepository.count());
+    }
+
+    private int createGenreCountingBatches(final int categories) {
+        final var genre = Genre.newGenre("Ação", true);
+        for (int i = 0; i < categories; i++) {
+            genre.addCategory(categoryGateway.create(Category.newCategory("Filmes " + i, null, true)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final var batches = new AtomicInteger();
+        entityManager.unwrap(Session.class).addEventListeners(new BaseSessionEventListener() {
+            @Override
+            public void jdbcExecuteBatchStart() {
+                batches.incrementAndGet();
+            }
+        });
+
+        genreGateway.create(genre);
+        entityManager.flush();
+
+        assertEquals(categories, genreRepository.findById(genre.getId().getValue()).get().getCategoryIDs().size());
+        return batches.get();
+    }
+
     @Test
     public void givenAValidGenreWithoutCategories_whenCallsCreateGenre_shouldPersistGenre() {
         final var expectedName = "Ação";
@@ -215,6 +260,52 @@ public class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAGenreWithManyCategories_whenCallsUpdateSwappingOneCategory_shouldWriteOnlyTheDelta() {
+        final var categories = new ArrayList<CategoryID>();
+        for (int i = 0; i < 20; i++) {
+            categories.add(categoryGateway.create(Category.newCategory("Filmes " + i, null, true)).getId());
+        }
+        final var added = categoryGateway.create(Category.newCategory("Séries", null, true)).getId();
+        final var removed = categories.get(0);
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(categories);
+        genreGateway.create(genre);
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        final var expectedCategories = new ArrayList<>(categories);
+        expectedCategories.remove(removed);
+        expectedCategories.add(added);
+
+        final var actualGenre = genreGateway.update(
+                Genre.clone(genre).update("Ação", true, expectedCategories)
+        );
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(20, actualGenre.getCategories().size());
+        assertTrue(actualGenre.getCategories().contains(added));
+        assertFalse(actualGenre.getCategories().contains(removed));
+
+        entityManager.clear();
+
+        final var persistedGenre = genreRepository.findById(genre.getId().getValue()).get();
+        assertEquals(
+                expectedCategories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList(),
+                persistedGenre.getCategoryIDs().stream().sorted(Comparator.comparing(CategoryID::getValue)).toList()
+        );
+    }
+
     @Test
     public void givenAValidGenreInactive_whenCallsUpdateGenreActivating_shouldPersistGenre() {
         final var expectedName = "Ação";
@@ -312,6 +403,28 @@ public class GenreMySQLGatewayTest {
         assertEquals(0, genreRepository.count());
     }
 
+    @Test
+    public void givenAValidGenre_whenCallsCreateAndDelete_shouldIssueOneStatementEach() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var genre = Genre.newGenre("Ação", true);
+        genreGateway.create(genre);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, genreRepository.count());
+
+        statistics.clear();
+        genreGateway.deleteById(genre.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, genreRepository.count());
+    }
+
     @Test
     public void givenAnInvalidGenre_whenCallsDeleteById_shouldReturnOK() {
         assertEquals(0, genreRepository.count());
@@ -353,6 +466,116 @@ public class GenreMySQLGatewayTest {
         assertNull(actualGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAllByIds_shouldLoadThemWithTheirCategoriesInOneStatement() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(action),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var actualGenres = genreGateway.findAllByIds(List.of(
+                drama.getId(),
+                GenreID.from("123"),
+                GenreID.unique(),
+                action.getId(),
+                drama.getId()
+        ));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(drama.getId(), action.getId()), actualGenres.stream().map(Genre::getId).toList());
+        assertEquals(List.of(series.getId()), actualGenres.get(0).getCategories());
+        assertEquals(sort(List.of(filmes.getId(), series.getId())), sort(actualGenres.get(1).getCategories()));
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAll_shouldLoadTheCategoriesOfThePageInOneStatement() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(action),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var actualPage = genreGateway.findAll(
+                new SearchQuery(0, 10, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(
+                List.of(action.getId(), drama.getId(), terror.getId()),
+                actualPage.items().stream().map(Genre::getId).toList()
+        );
+        assertEquals(sort(List.of(filmes.getId(), series.getId())), sort(actualPage.items().get(0).getCategories()));
+        assertEquals(List.of(series.getId()), actualPage.items().get(1).getCategories());
+        assertEquals(List.of(), actualPage.items().get(2).getCategories());
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsForEach_shouldStreamThemWithTheirCategoriesInOneStatement() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var action = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(action),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var actualGenres = new ArrayList<Genre>();
+        genreGateway.forEach(actualGenres::add);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, actualGenres.size());
+        assertEquals(
+                Set.of(action.getId(), drama.getId(), terror.getId()),
+                actualGenres.stream().map(Genre::getId).collect(Collectors.toSet())
+        );
+
+        final var actualCategories = actualGenres.stream()
+                .collect(Collectors.toMap(Genre::getId, it -> sort(it.getCategories())));
+        assertEquals(sort(List.of(filmes.getId(), series.getId())), actualCategories.get(action.getId()));
+        assertEquals(List.of(series.getId()), actualCategories.get(drama.getId()));
+        assertEquals(List.of(), actualCategories.get(terror.getId()));
+    }
+
     @Test
     public void givenAInvalidGenreId_whenCallsFindById_shouldReturnEmpty() {
         final var expectedId = GenreID.from("123");
@@ -364,6 +587,32 @@ public class GenreMySQLGatewayTest {
         assertTrue(actualGenre.isEmpty());
     }
 
+    @Test
+    public void givenPrePersistedGenresWithCategories_whenCallsFindAllPreviews_shouldReturnPreviews() {
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategory(filmes.getId());
+        final var drama = Genre.newGenre("Drama", false);
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(acao), GenreJpaEntity.from(drama)));
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 2;
+        final var expectedItems = List.of(GenrePreview.from(acao), GenrePreview.from(drama));
+
+        final var query = new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc");
+
+        final var actualPage = genreGateway.findAllPreviews(query);
+
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedItems, actualPage.items());
+    }
+
     @Test
     public void givenEmptyGenres_whenCallFindAll_shouldReturnEmptyList() {
         final var expectedPage = 0;
@@ -483,6 +732,38 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Ação;Comédia romântica;Drama;Ficção científica;Terror",
+            "name,desc,Terror;Ficção científica;Drama;Comédia romântica;Ação",
+    })
+    public void givenAValidCursor_whenCallsFindAll_shouldReturnNextPagesByKeyset(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedGenres
+    ) {
+        mockGenres();
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+        final var expectedTerms = "";
+
+        final var actualNames = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var query =
+                    new SearchQuery(0, expectedPerPage, expectedTerms, expectedSort, expectedDirection, cursor);
+
+            final var actualPage = genreGateway.findAll(query);
+
+            assertEquals(cursor == null ? expectedTotal : Pagination.UNKNOWN_TOTAL, actualPage.total());
+            assertTrue(actualPage.items().size() <= expectedPerPage);
+            actualPage.items().forEach(genre -> actualNames.add(genre.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(expectedGenres.split(";")), actualNames);
+    }
+
     private List<CategoryID> sort(final List<CategoryID> ids) {
         return ids.stream()
                 .sorted(Comparator.comparing(CategoryID::getValue))
@@ -0,0 +1,104 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.MySQLGatewayTest;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MySQLGatewayTest
+public class ImportJobMySQLGatewayTest {
+
+    @Autowired
+    private ImportJobMySQLGateway gateway;
+
+    @Test
+    public void givenASavedStatus_whenCallsFindById_shouldReturnItWithItsRowErrors() {
+        final var startedAt = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedErrors = List.of(new ImportRowError(3, List.of(new Error("'name' should not be empty"))));
+
+        gateway.save(status("123", ImportJob.State.RUNNING, startedAt, null, expectedErrors), startedAt);
+
+        final var actualStatus = gateway.findById("123", startedAt.plusSeconds(2)).orElseThrow();
+
+        assertEquals(ImportJob.State.RUNNING, actualStatus.state());
+        assertEquals("categories", actualStatus.target());
+        assertEquals(1000, actualStatus.rows());
+        assertEquals(999, actualStatus.created());
+        assertEquals(1, actualStatus.invalid());
+        assertEquals(500.0, actualStatus.rowsPerSecond());
+        assertEquals(startedAt, actualStatus.startedAt());
+        assertEquals(expectedErrors, actualStatus.errors());
+    }
+
+    @Test
+    public void givenASavedStatus_whenSavesItAgain_shouldReplaceIt() {
+        final var startedAt = Instant.parse("2024-01-01T00:00:00Z");
+        final var finishedAt = startedAt.plusSeconds(4);
+
+        gateway.save(status("123", ImportJob.State.RUNNING, startedAt, null, List.of()), startedAt);
+        gateway.save(status("123", ImportJob.State.COMPLETED, startedAt, finishedAt, List.of()), finishedAt);
+
+        final var actualStatus = gateway.findById("123", finishedAt.plusSeconds(60)).orElseThrow();
+
+        assertEquals(ImportJob.State.COMPLETED, actualStatus.state());
+        assertEquals(finishedAt, actualStatus.finishedAt());
+        assertEquals(250.0, actualStatus.rowsPerSecond());
+    }
+
+    @Test
+    public void givenFinishedAndRunningJobs_whenCallsDeleteFinishedBefore_shouldKeepTheRunningAndRecentOnes() {
+        final var now = Instant.parse("2024-01-01T02:00:00Z");
+        final var startedAt = now.minusSeconds(7200);
+
+        gateway.save(status("expired", ImportJob.State.COMPLETED, startedAt, now.minusSeconds(3601), List.of()), now.minusSeconds(3601));
+        gateway.save(status("recent", ImportJob.State.FAILED, startedAt, now.minusSeconds(60), List.of()), now.minusSeconds(60));
+        gateway.save(status("running", ImportJob.State.RUNNING, startedAt, null, List.of()), startedAt);
+
+        assertEquals(1, gateway.deleteFinishedBefore(now.minusSeconds(3600)));
+
+        assertTrue(gateway.findById("expired", now).isEmpty());
+        assertTrue(gateway.findById("recent", now).isPresent());
+        assertTrue(gateway.findById("running", now).isPresent());
+    }
+
+    @Test
+    public void givenUnfinishedJobsNotSavedLately_whenCallsFailAbandoned_shouldFailOnlyThoseAndLetThemBePurged() {
+        final var now = Instant.parse("2024-01-01T02:00:00Z");
+        final var startedAt = now.minusSeconds(7200);
+
+        gateway.save(status("abandoned", ImportJob.State.RUNNING, startedAt, null, List.of()), now.minusSeconds(301));
+        gateway.save(status("queued", ImportJob.State.QUEUED, null, null, List.of()), now.minusSeconds(301));
+        gateway.save(status("alive", ImportJob.State.RUNNING, startedAt, null, List.of()), now.minusSeconds(30));
+        gateway.save(status("completed", ImportJob.State.COMPLETED, startedAt, now.minusSeconds(600), List.of()), now.minusSeconds(600));
+
+        assertEquals(2, gateway.failAbandoned(now.minusSeconds(300), now));
+
+        final var actualStatus = gateway.findById("abandoned", now).orElseThrow();
+        assertEquals(ImportJob.State.FAILED, actualStatus.state());
+        assertEquals(now, actualStatus.finishedAt());
+        assertEquals(ImportJobMySQLGateway.ABANDONED, actualStatus.failure());
+        assertEquals(ImportJob.State.FAILED, gateway.findById("queued", now).orElseThrow().state());
+        assertEquals(ImportJob.State.RUNNING, gateway.findById("alive", now).orElseThrow().state());
+        assertEquals(ImportJob.State.COMPLETED, gateway.findById("completed", now).orElseThrow().state());
+
+        assertEquals(3, gateway.deleteFinishedBefore(now.plusSeconds(1)));
+        assertTrue(gateway.findById("abandoned", now).isEmpty());
+        assertTrue(gateway.findById("alive", now).isPresent());
+    }
+
+    private static ImportJobStatus status(
+            final String id,
+            final ImportJob.State state,
+            final Instant startedAt,
+            final Instant finishedAt,
+            final List<ImportRowError> errors) {
+
+        return ImportJobStatus.of(id, "categories", state, 1000, 999, 1, 0, startedAt, finishedAt, null, errors, startedAt);
+    }
+}
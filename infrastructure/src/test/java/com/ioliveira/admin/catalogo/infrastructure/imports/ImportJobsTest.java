@@ -0,0 +1,296 @@
+package com.ioliveira.admin.catalogo.infrastructure.imports;
+
+import com.ioliveira.admin.catalogo.application.bulk.BulkItemOutput;
+import com.ioliveira.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
+import com.ioliveira.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.admin.catalogo.domain.validation.Error;
+import com.ioliveira.admin.catalogo.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unitTest")
+public class ImportJobsTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final List<List<CreateCategoryCommand>> chunks = new ArrayList<>();
+
+    private final Map<String, ImportJobStatus> saved = new ConcurrentHashMap<>();
+
+    private final ImportJobMySQLGateway gateway = gateway();
+
+    private final ImportTarget<CreateCategoryCommand> categories =
+            new ImportTarget<>("categories", ImportRows::category, this::createCategories);
+
+    @Test
+    public void givenACsvFile_whenCallsSubmit_shouldCreateItInChunksAndCountEveryRow() {
+        final var csv = """
+                name,description,active
+                Filmes,A categoria mais assistida,true
+                Séries,,false
+                ,Sem nome,
+                Documentários,,talvez
+                Animes,,
+                """;
+
+        final var status = run(categories, ImportFormat.CSV, csv, 1000);
+
+        assertEquals(ImportJob.State.COMPLETED, status.state());
+        assertEquals(5, status.rows());
+        assertEquals(3, status.created());
+        assertEquals(2, status.invalid());
+        assertEquals(0, status.failed());
+        assertNull(status.failure());
+        assertEquals(List.of(2, 2), chunks.stream().map(List::size).toList());
+        assertEquals("Séries", chunks.get(0).get(1).name());
+        assertFalse(chunks.get(0).get(1).isActive());
+        assertTrue(chunks.get(1).get(1).isActive());
+
+        assertEquals(2, status.errors().size());
+        assertEquals(3, status.errors().get(0).row());
+        assertEquals("'name' should not be empty", status.errors().get(0).errors().get(0).message());
+        assertEquals(4, status.errors().get(1).row());
+        assertEquals("'active' should be true or false", status.errors().get(1).errors().get(0).message());
+    }
+
+    @Test
+    public void givenAnNdJsonFile_whenCallsSubmit_shouldParseTypesByName() {
+        final var created = new ArrayList<CreateCastMemberCommand>();
+        final var castMembers = new ImportTarget<CreateCastMemberCommand>("cast_members", ImportRows::castMember, commands -> {
+            created.addAll(commands);
+            return IntStream.range(0, commands.size()).mapToObj(i -> BulkItemOutput.created(i, "id-" + i)).toList();
+        });
+
+        final var ndjson = """
+                {"name": "Keanu Reeves", "type": "actor"}
+                {"name": "Lana Wachowski", "type": "DIRECTOR"}
+                {"name": "Hugo Weaving", "type": "VILLAIN"}
+                """;
+
+        final var status = run(castMembers, ImportFormat.NDJSON, ndjson, 1000);
+
+        assertEquals(ImportJob.State.COMPLETED, status.state());
+        assertEquals(3, status.rows());
+        assertEquals(2, status.created());
+        assertEquals(1, status.invalid());
+        assertEquals(2, created.size());
+        assertEquals("Keanu Reeves", created.get(0).name());
+        assertEquals(3, status.errors().get(0).row());
+        assertEquals("'type' should be one of [ACTOR, DIRECTOR]", status.errors().get(0).errors().get(0).message());
+    }
+
+    @Test
+    public void givenAMalformedLine_whenCallsSubmit_shouldRejectItAndImportTheRest() {
+        final var ndjson = """
+                {"name": "Filmes"}
+                {"name": "Séries"}
+                {"name": 
+                {"name": "Animes"}
+                """;
+
+        final var status = run(categories, ImportFormat.NDJSON, ndjson, 1000);
+
+        assertEquals(ImportJob.State.COMPLETED, status.state());
+        assertEquals(4, status.rows());
+        assertEquals(3, status.created());
+        assertEquals(1, status.invalid());
+        assertNull(status.failure());
+        assertEquals(3, status.errors().get(0).row());
+        assertTrue(status.errors().get(0).errors().get(0).message().startsWith("Could not read the row"));
+        assertEquals("Animes", chunks.get(1).get(0).name());
+    }
+
+    @Test
+    public void givenACsvRowWithTooManyValues_whenCallsSubmit_shouldRejectItAndKeepQuotedLineBreaks() {
+        final var csv = """
+                name,description,active
+                Filmes,"Longas
+                e curtas",true
+                Séries,,false,extra
+                Animes,,
+                """;
+
+        final var status = run(categories, ImportFormat.CSV, csv, 1000);
+
+        assertEquals(ImportJob.State.COMPLETED, status.state());
+        assertEquals(3, status.rows());
+        assertEquals(2, status.created());
+        assertEquals(1, status.invalid());
+        assertEquals("Longas\ne curtas", chunks.get(0).get(0).description());
+        assertEquals(2, status.errors().get(0).row());
+        assertTrue(status.errors().get(0).errors().get(0).message().startsWith("Could not read the row"));
+    }
+
+    @Test
+    public void givenALatin1File_whenCallsSubmit_shouldDecodeItWithThatCharset() {
+        final var imports = new ImportJobs(gateway, 2, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock);
+        final var latin1 = new ByteArrayInputStream("name\nSéries\nAção\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        final var submitted = imports.submit(categories, ImportFormat.CSV, StandardCharsets.ISO_8859_1, latin1);
+        imports.close();
+
+        assertEquals(ImportJob.State.COMPLETED, imports.status(submitted.id()).orElseThrow().state());
+        assertEquals(List.of("Séries", "Ação"), chunks.get(0).stream().map(CreateCategoryCommand::name).toList());
+    }
+
+    @Test
+    public void givenMoreInvalidRowsThanMaxErrors_whenCallsSubmit_shouldKeepOnlyTheFirstErrors() {
+        final var csv = "name\n" + " \n".repeat(10);
+
+        final var status = run(categories, ImportFormat.CSV, csv, 3);
+
+        assertEquals(10, status.rows());
+        assertEquals(10, status.invalid());
+        assertEquals(List.of(1L, 2L, 3L), status.errors().stream().map(ImportRowError::row).toList());
+    }
+
+    @Test
+    public void givenTheQueueIsFull_whenCallsSubmit_shouldRejectTheImport() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var blocking = new ImportTarget<CreateCategoryCommand>("categories", ImportRows::category, commands -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return createCategories(commands);
+        });
+
+        try (final var imports = new ImportJobs(gateway, 2, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock)) {
+            imports.submit(blocking, ImportFormat.CSV, StandardCharsets.UTF_8, upload("name\nFilmes\n"));
+            imports.submit(blocking, ImportFormat.CSV, StandardCharsets.UTF_8, upload("name\nSéries\n"));
+
+            final var rejected = upload("name\nAnimes\n");
+            final var expectedAvailable = rejected.available();
+
+            assertThrows(RejectedExecutionException.class,
+                    () -> imports.submit(blocking, ImportFormat.CSV, StandardCharsets.UTF_8, rejected));
+            assertEquals(expectedAvailable, rejected.available());
+            assertEquals(2, saved.size());
+
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void givenAnImportRunOnAnotherNode_whenCallsStatus_shouldReadItsSavedProgress() {
+        final var submitted = run(categories, ImportFormat.CSV, "name\nFilmes\nSéries\n", 1000);
+
+        try (final var otherNode = new ImportJobs(gateway, 2, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock)) {
+            final var status = otherNode.status(submitted.id()).orElseThrow();
+
+            assertEquals(ImportJob.State.COMPLETED, status.state());
+            assertEquals(2, status.rows());
+            assertEquals(2, status.created());
+        }
+    }
+
+    @Test
+    public void givenAQueuedImport_whenCallsHeartbeat_shouldSaveItAndFailTheAbandonedOnes() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var blocking = new ImportTarget<CreateCategoryCommand>("categories", ImportRows::category, commands -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return createCategories(commands);
+        });
+        final var now = clock.instant();
+
+        try (final var imports = new ImportJobs(gateway, 2, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock)) {
+            imports.submit(blocking, ImportFormat.CSV, StandardCharsets.UTF_8, upload("name\nFilmes\n"));
+            final var queued = imports.submit(blocking, ImportFormat.CSV, StandardCharsets.UTF_8, upload("name\nSéries\n"));
+            saved.clear();
+
+            imports.heartbeat();
+
+            assertEquals(ImportJob.State.QUEUED, saved.get(queued.id()).state());
+            verify(gateway).failAbandoned(now.minus(Duration.ofMinutes(5)), now);
+            verify(gateway).deleteFinishedBefore(now.minus(Duration.ofHours(1)));
+
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void givenAHeartbeatNotShorterThanTheStalePeriod_whenCallsStart_shouldFail() {
+        try (final var imports = new ImportJobs(gateway, 2, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock)) {
+            assertThrows(IllegalArgumentException.class, () -> imports.start(Duration.ofMinutes(5)));
+        }
+    }
+
+    @Test
+    public void givenAChunkSizeAboveMaxItems_whenCreatesImportJobs_shouldFail() {
+        final var actualException = assertThrows(IllegalArgumentException.class,
+                () -> new ImportJobs(gateway, 1001, 1000, 1, 1, 1000, Duration.ofHours(1), Duration.ofMinutes(5), clock));
+
+        assertEquals("The import chunk size 1001 exceeds the 1000 items a bulk request accepts", actualException.getMessage());
+    }
+
+    private <C> ImportJobStatus run(
+            final ImportTarget<C> target,
+            final ImportFormat format,
+            final String content,
+            final int maxErrors) {
+
+        final ImportJobs imports = new ImportJobs(gateway, 2, 1000, 1, 1, maxErrors, Duration.ofHours(1), Duration.ofMinutes(5), clock);
+        final ImportJobStatus submitted = imports.submit(target, format, StandardCharsets.UTF_8, upload(content));
+        imports.close();
+        return imports.status(submitted.id()).orElseThrow();
+    }
+
+    /**
+     * Keeps the saved snapshots in memory, standing in for the table every node reads.
+     */
+    private ImportJobMySQLGateway gateway() {
+        final var gateway = mock(ImportJobMySQLGateway.class);
+        doAnswer(invocation -> {
+            final ImportJobStatus status = invocation.getArgument(0);
+            saved.put(status.id(), status);
+            return null;
+        }).when(gateway).save(any(), any());
+        doAnswer(invocation -> saved.remove(invocation.<String>getArgument(0))).when(gateway).deleteById(any());
+        when(gateway.findById(any(), any())).thenAnswer(invocation -> Optional.ofNullable(saved.get(invocation.<String>getArgument(0))));
+        return gateway;
+    }
+
+    private static ByteArrayInputStream upload(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<BulkItemOutput> createCategories(final List<CreateCategoryCommand> commands) {
+        chunks.add(commands);
+        return IntStream.range(0, commands.size())
+                .mapToObj(i -> commands.get(i).name() == null || commands.get(i).name().isBlank()
+                        ? BulkItemOutput.invalid(i, Notification.create(new Error("'name' should not be empty")))
+                        : BulkItemOutput.created(i, "id-" + i))
+                .toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ioliveira.admin.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unitTest")
+public class SingleFlightTest {
+
+    @Test
+    public void givenConcurrentCallsWithTheSameKey_whenCallsRun_shouldShareOneCall() throws Exception {
+        final var expectedCallers = 8;
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var singleFlight = new SingleFlight<String, String>("genres", "findById", meterRegistry);
+        final var executions = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(expectedCallers);
+
+        try {
+            final var results = new ArrayList<Future<String>>();
+            for (int i = 0; i < expectedCallers; i++) {
+                results.add(executor.submit(() -> singleFlight.run("123", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "Ação";
+                })));
+            }
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.collapsed() < expectedCallers - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (final var result : results) {
+                assertEquals("Ação", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(expectedCallers, singleFlight.calls());
+        assertEquals(expectedCallers - 1, singleFlight.collapsed());
+        assertEquals(expectedCallers - 1, meterRegistry.get("gateway.calls.collapsed").functionCounter().count());
+    }
+
+    @Test
+    public void givenACompletedCall_whenCallsRunAgain_shouldRunANewCall() {
+        final var singleFlight = new SingleFlight<String, Integer>("genres", "findById", null);
+        final var executions = new AtomicInteger();
+
+        singleFlight.run("123", executions::incrementAndGet);
+        final var actualResult = singleFlight.run("123", executions::incrementAndGet);
+
+        assertEquals(2, actualResult);
+        assertEquals(0, singleFlight.collapsed());
+    }
+
+    @Test
+    public void givenAFailingCall_whenCallsRun_shouldRethrowAndForgetIt() {
+        final var singleFlight = new SingleFlight<String, String>("genres", "findById", null);
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.run("123", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("Ação", singleFlight.run("123", () -> "Ação"));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}